@@ -0,0 +1,57 @@
+package com.budjb.spring.distributed.cluster.hazelcast.testing;
+
+import com.budjb.spring.distributed.cluster.Instruction;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+
+/**
+ * An {@link Instruction} that applies the faults injected into the node it runs on before running
+ * the instruction it wraps.
+ *
+ * @param <T> Return type of the instruction.
+ */
+public class FaultInjectingInstruction<T> implements Instruction<T>, ApplicationContextAware {
+    /**
+     * Wrapped instruction.
+     */
+    private final Instruction<? extends T> instruction;
+
+    /**
+     * Fault injector of the node running the instruction.
+     */
+    private transient FaultInjector faultInjector;
+
+    /**
+     * Constructor.
+     *
+     * @param instruction Instruction to wrap.
+     */
+    public FaultInjectingInstruction(Instruction<? extends T> instruction) {
+        this.instruction = instruction;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T call() throws Exception {
+        if (faultInjector != null) {
+            faultInjector.beforeInstruction();
+        }
+        return instruction.call();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+        faultInjector = applicationContext.getBean(FaultInjector.class);
+
+        AutowireCapableBeanFactory beanFactory = applicationContext.getAutowireCapableBeanFactory();
+        beanFactory.autowireBean(instruction);
+        beanFactory.initializeBean(instruction, instruction.getClass().getName());
+    }
+}
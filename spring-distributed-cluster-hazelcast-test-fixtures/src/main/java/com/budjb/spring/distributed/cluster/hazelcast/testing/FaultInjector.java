@@ -0,0 +1,44 @@
+package com.budjb.spring.distributed.cluster.hazelcast.testing;
+
+/**
+ * Holds the faults injected into a single {@link HarnessNode}. Each node registers its own fault injector
+ * as a bean in its application context, where {@link FaultInjectingInstruction} finds it on the node that
+ * runs the instruction.
+ */
+public class FaultInjector {
+    /**
+     * Latency, in milliseconds, added before each instruction runs.
+     */
+    private volatile long latency = 0;
+
+    /**
+     * Returns the latency, in milliseconds, added before each instruction runs.
+     *
+     * @return the latency added before each instruction runs.
+     */
+    public long getLatency() {
+        return latency;
+    }
+
+    /**
+     * Sets the latency, in milliseconds, added before each instruction runs.
+     *
+     * @param latency Latency to add before each instruction runs.
+     */
+    public void setLatency(long latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Applies any injected faults. Called on the node that runs an instruction, before it runs.
+     *
+     * @throws InterruptedException when the thread is interrupted while latency is applied.
+     */
+    public void beforeInstruction() throws InterruptedException {
+        long latency = this.latency;
+
+        if (latency > 0) {
+            Thread.sleep(latency);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.budjb.spring.distributed.cluster.hazelcast.testing;
+
+import com.budjb.spring.distributed.cluster.ClusterConfigurationProperties;
+import com.budjb.spring.distributed.cluster.ClusterManager;
+import com.budjb.spring.distributed.cluster.hazelcast.HazelcastClusterManager;
+import com.budjb.spring.distributed.cluster.hazelcast.ResultTransportProperties;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.spring.context.SpringManagedContext;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A single cluster member started by a {@link HazelcastClusterHarness}, consisting of an embedded Hazelcast
+ * instance and its own Spring application context containing a {@link HazelcastClusterManager}.
+ */
+public class HarnessNode {
+    /**
+     * Index of the node within its harness.
+     */
+    private final int index;
+
+    /**
+     * Application context of the node.
+     */
+    private final AnnotationConfigApplicationContext applicationContext;
+
+    /**
+     * Hazelcast instance of the node.
+     */
+    private final HazelcastInstance hazelcastInstance;
+
+    /**
+     * Fault injector of the node.
+     */
+    private final FaultInjector faultInjector = new FaultInjector();
+
+    /**
+     * Constructor. Refreshes the application context, which starts the Hazelcast instance.
+     * <p>
+     * The Hazelcast instance is created while the context is refreshing, so that its managed context can
+     * autowire instructions against an active application context.
+     *
+     * @param index                          Index of the node within its harness.
+     * @param config                         Hazelcast configuration of the node.
+     * @param clusterConfigurationProperties Cluster configuration properties.
+     * @param resultTransportProperties      Result transport properties.
+     */
+    HarnessNode(int index, Config config, ClusterConfigurationProperties clusterConfigurationProperties, ResultTransportProperties resultTransportProperties) {
+        this.index = index;
+
+        AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+        AtomicReference<HazelcastInstance> hazelcastInstance = new AtomicReference<>();
+
+        SpringManagedContext managedContext = new SpringManagedContext();
+        config.setManagedContext(managedContext);
+
+        try {
+            ConfigurableListableBeanFactory beanFactory = applicationContext.getBeanFactory();
+            beanFactory.registerSingleton("clusterConfigurationProperties", clusterConfigurationProperties);
+            beanFactory.registerSingleton("resultTransportProperties", resultTransportProperties);
+            beanFactory.registerSingleton("faultInjector", faultInjector);
+
+            applicationContext.registerBean(HazelcastInstance.class, () -> {
+                managedContext.setApplicationContext(applicationContext);
+                hazelcastInstance.set(Hazelcast.newHazelcastInstance(config));
+                return hazelcastInstance.get();
+            });
+            applicationContext.registerBean(
+                ClusterManager.class,
+                () -> new HazelcastClusterManager(applicationContext.getBean(HazelcastInstance.class), clusterConfigurationProperties, resultTransportProperties)
+            );
+            applicationContext.refresh();
+        }
+        catch (RuntimeException e) {
+            if (hazelcastInstance.get() != null) {
+                hazelcastInstance.get().getLifecycleService().terminate();
+            }
+            applicationContext.close();
+            throw e;
+        }
+
+        this.applicationContext = applicationContext;
+        this.hazelcastInstance = hazelcastInstance.get();
+    }
+
+    /**
+     * Returns the index of the node within its harness.
+     *
+     * @return the index of the node within its harness.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the cluster manager of the node.
+     *
+     * @return the cluster manager of the node.
+     */
+    public ClusterManager getClusterManager() {
+        return applicationContext.getBean(ClusterManager.class);
+    }
+
+    /**
+     * Returns the Hazelcast instance of the node.
+     *
+     * @return the Hazelcast instance of the node.
+     */
+    public HazelcastInstance getHazelcastInstance() {
+        return hazelcastInstance;
+    }
+
+    /**
+     * Returns the application context of the node.
+     *
+     * @return the application context of the node.
+     */
+    public AnnotationConfigApplicationContext getApplicationContext() {
+        return applicationContext;
+    }
+
+    /**
+     * Returns the fault injector of the node.
+     *
+     * @return the fault injector of the node.
+     */
+    public FaultInjector getFaultInjector() {
+        return faultInjector;
+    }
+
+    /**
+     * Returns whether the node is running.
+     *
+     * @return whether the node is running.
+     */
+    public boolean isRunning() {
+        return hazelcastInstance.getLifecycleService().isRunning();
+    }
+
+    /**
+     * Abruptly terminates the node, as if its process had died, and closes its application context.
+     */
+    public void kill() {
+        hazelcastInstance.getLifecycleService().terminate();
+        applicationContext.close();
+    }
+
+    /**
+     * Gracefully shuts the node down, allowing it to leave the cluster cleanly.
+     */
+    public void shutdown() {
+        applicationContext.close();
+        hazelcastInstance.shutdown();
+    }
+}
@@ -0,0 +1,369 @@
+package com.budjb.spring.distributed.cluster.hazelcast.testing;
+
+import com.budjb.spring.distributed.cluster.ClusterConfigurationProperties;
+import com.budjb.spring.distributed.cluster.ClusterManager;
+import com.budjb.spring.distributed.cluster.ClusterMember;
+import com.budjb.spring.distributed.cluster.Instruction;
+import com.budjb.spring.distributed.cluster.hazelcast.ResultTransportProperties;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.GroupConfig;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.config.NetworkConfig;
+import org.springframework.util.Assert;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Starts a cluster of embedded Hazelcast members in a single JVM for testing {@link ClusterManager} behavior
+ * without real infrastructure.
+ * <p>
+ * Each member listens only on the loopback interface and discovers the others over TCP/IP, and each harness uses
+ * a unique group name so that concurrently running harnesses never merge. Every member has its own Spring
+ * application context containing its own cluster manager, so instructions are autowired against the context
+ * of the member that runs them.
+ * <p>
+ * Latency is injected per member through its {@link FaultInjector}, and applies to instructions wrapped with
+ * {@link #inject(Instruction)}. Members may be killed abruptly with {@link #kill(int)}, either immediately or
+ * after a delay so that the loss happens while a fan-out is in progress.
+ */
+public class HazelcastClusterHarness implements Closeable {
+    /**
+     * Default first port members bind to.
+     */
+    public final static int DEFAULT_BASE_PORT = 5901;
+
+    /**
+     * How long to wait for the cluster to form, in milliseconds.
+     */
+    private final static long FORMATION_TIMEOUT = 60000L;
+
+    /**
+     * Number of members started by {@link #start()}.
+     */
+    private final int size;
+
+    /**
+     * Cluster configuration properties shared by all members.
+     */
+    private final ClusterConfigurationProperties clusterConfigurationProperties;
+
+    /**
+     * Result transport properties shared by all members.
+     */
+    private final ResultTransportProperties resultTransportProperties;
+
+    /**
+     * Hazelcast group name of the cluster.
+     */
+    private final String groupName = "harness-" + UUID.randomUUID().toString();
+
+    /**
+     * Members that have been started, in the order they were started.
+     */
+    private final List<HarnessNode> nodes = new ArrayList<>();
+
+    /**
+     * Scheduler used for delayed kills.
+     */
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "harness-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * First port members bind to.
+     */
+    private int basePort = DEFAULT_BASE_PORT;
+
+    /**
+     * Number of ports members may bind to, starting at the base port.
+     */
+    private int portCount;
+
+    /**
+     * Constructor.
+     *
+     * @param size Number of members to start.
+     */
+    public HazelcastClusterHarness(int size) {
+        this(size, new ClusterConfigurationProperties(), new ResultTransportProperties());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param size                           Number of members to start.
+     * @param clusterConfigurationProperties Cluster configuration properties shared by all members.
+     * @param resultTransportProperties      Result transport properties shared by all members.
+     */
+    public HazelcastClusterHarness(int size, ClusterConfigurationProperties clusterConfigurationProperties, ResultTransportProperties resultTransportProperties) {
+        Assert.isTrue(size > 0, "the [size] of the cluster must be greater than 0");
+
+        this.size = size;
+        this.clusterConfigurationProperties = clusterConfigurationProperties;
+        this.resultTransportProperties = resultTransportProperties;
+        this.portCount = Math.max(10, size * 2);
+    }
+
+    /**
+     * Sets the first port members bind to.
+     *
+     * @param basePort First port members bind to.
+     */
+    public void setBasePort(int basePort) {
+        this.basePort = basePort;
+    }
+
+    /**
+     * Sets the number of ports members may bind to, starting at the base port. This limits how many
+     * members may run at once, including those added with {@link #addNode()}.
+     *
+     * @param portCount Number of ports members may bind to.
+     */
+    public void setPortCount(int portCount) {
+        this.portCount = portCount;
+    }
+
+    /**
+     * Starts the members and waits until every member sees the full cluster. If any member fails to start
+     * or the cluster does not form in time, all members that were started are shut down.
+     *
+     * @return this harness.
+     * @throws InterruptedException when interrupted while waiting for the cluster to form.
+     * @throws TimeoutException     when the cluster does not form in time.
+     */
+    public HazelcastClusterHarness start() throws InterruptedException, TimeoutException {
+        Assert.state(nodes.isEmpty(), "the harness has already been started");
+
+        try {
+            for (int i = 0; i < size; i++) {
+                nodes.add(new HarnessNode(i, createConfig(), clusterConfigurationProperties, resultTransportProperties));
+            }
+
+            awaitClusterSize(size);
+        }
+        catch (InterruptedException | TimeoutException | RuntimeException e) {
+            close();
+            throw e;
+        }
+
+        return this;
+    }
+
+    /**
+     * Starts an additional member and waits until every running member sees it.
+     *
+     * @return the new member.
+     * @throws InterruptedException when interrupted while waiting for the cluster to form.
+     * @throws TimeoutException     when the cluster does not form in time.
+     */
+    public HarnessNode addNode() throws InterruptedException, TimeoutException {
+        HarnessNode node = new HarnessNode(nodes.size(), createConfig(), clusterConfigurationProperties, resultTransportProperties);
+        nodes.add(node);
+
+        awaitClusterSize(getRunningNodes().size());
+
+        return node;
+    }
+
+    /**
+     * Returns a member by the order it was started in.
+     *
+     * @param index Index of the member.
+     * @return the member.
+     */
+    public HarnessNode getNode(int index) {
+        return nodes.get(index);
+    }
+
+    /**
+     * Returns all members that have been started, including those that have since been killed.
+     *
+     * @return all members that have been started.
+     */
+    public List<HarnessNode> getNodes() {
+        return new ArrayList<>(nodes);
+    }
+
+    /**
+     * Returns the members that are running.
+     *
+     * @return the members that are running.
+     */
+    public List<HarnessNode> getRunningNodes() {
+        return nodes.stream().filter(HarnessNode::isRunning).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the cluster manager of a member.
+     *
+     * @param index Index of the member.
+     * @return the cluster manager of the member.
+     */
+    public ClusterManager getClusterManager(int index) {
+        return getNode(index).getClusterManager();
+    }
+
+    /**
+     * Sets the latency, in milliseconds, added before each fault-injecting instruction runs on a member.
+     *
+     * @param index   Index of the member.
+     * @param latency Latency to add.
+     */
+    public void setLatency(int index, long latency) {
+        getNode(index).getFaultInjector().setLatency(latency);
+    }
+
+    /**
+     * Abruptly terminates a member.
+     *
+     * @param index Index of the member.
+     */
+    public void kill(int index) {
+        getNode(index).kill();
+    }
+
+    /**
+     * Abruptly terminates a member after a delay.
+     *
+     * @param index Index of the member.
+     * @param delay Delay, in milliseconds, before the member is terminated.
+     */
+    public void kill(int index, long delay) {
+        scheduler.schedule(() -> kill(index), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Wraps an instruction so that faults injected into the member that runs it are applied.
+     *
+     * @param instruction Instruction to wrap.
+     * @param <T>         Return type of the instruction.
+     * @return the wrapped instruction.
+     */
+    public static <T> Instruction<T> inject(Instruction<? extends T> instruction) {
+        return new FaultInjectingInstruction<>(instruction);
+    }
+
+    /**
+     * Repeatedly submits an instruction to all members from one member's cluster manager and measures how
+     * long each fan-out takes to complete. Injected faults are applied to the instruction.
+     * <p>
+     * A fan-out that returns fewer results than there are running members hit the instruction timeout.
+     * It is counted as a timeout in the report rather than as a latency sample. A fan-out that fails,
+     * such as when a member is lost while it runs, is counted as a failure, and measurement continues.
+     *
+     * @param index       Index of the member submitting the instruction.
+     * @param instruction Instruction to submit.
+     * @param iterations  Number of fan-outs to measure.
+     * @return a report of the fan-out latencies.
+     * @throws InterruptedException when the processes is interrupted.
+     */
+    public LatencyReport measureFanOut(int index, Instruction<?> instruction, int iterations) throws InterruptedException {
+        Assert.isTrue(iterations > 0, "the number of [iterations] must be greater than 0");
+
+        ClusterManager clusterManager = getClusterManager(index);
+        Instruction<?> injected = inject(instruction);
+        long[] samples = new long[iterations];
+        int completed = 0;
+        int timeouts = 0;
+        int failures = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            int expected = getRunningNodes().size();
+
+            long start = System.nanoTime();
+            Map<ClusterMember, ?> results;
+            try {
+                results = clusterManager.submitInstruction(injected);
+            }
+            catch (ExecutionException e) {
+                failures++;
+                continue;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (results.size() < expected) {
+                timeouts++;
+            }
+            else {
+                samples[completed++] = elapsed;
+            }
+        }
+
+        return new LatencyReport(Arrays.copyOf(samples, completed), timeouts, failures);
+    }
+
+    /**
+     * Waits until every running member sees the given number of members.
+     *
+     * @param expected Expected number of members.
+     * @throws InterruptedException when interrupted while waiting.
+     * @throws TimeoutException     when the cluster does not reach the expected size in time.
+     */
+    public void awaitClusterSize(int expected) throws InterruptedException, TimeoutException {
+        long end = System.currentTimeMillis() + FORMATION_TIMEOUT;
+
+        while (!getRunningNodes().stream().allMatch(node -> node.getHazelcastInstance().getCluster().getMembers().size() == expected)) {
+            if (System.currentTimeMillis() > end) {
+                throw new TimeoutException("cluster did not reach " + expected + " members within " + FORMATION_TIMEOUT + " milliseconds");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * Shuts down all running members.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+
+        for (HarnessNode node : getRunningNodes()) {
+            node.kill();
+        }
+    }
+
+    /**
+     * Creates the Hazelcast configuration of a member, restricted to loopback networking.
+     *
+     * @return the Hazelcast configuration of a member.
+     */
+    private Config createConfig() {
+        Config config = new Config();
+
+        config.setGroupConfig(new GroupConfig(groupName));
+        config.setProperty("hazelcast.logging.type", "slf4j");
+        config.setProperty("hazelcast.phone.home.enabled", "false");
+        config.setProperty("hazelcast.socket.bind.any", "false");
+        config.setProperty("hazelcast.wait.seconds.before.join", "0");
+        config.setProperty("hazelcast.heartbeat.interval.seconds", "1");
+        config.setProperty("hazelcast.max.no.heartbeat.seconds", "5");
+
+        NetworkConfig networkConfig = config.getNetworkConfig();
+        networkConfig.setPort(basePort).setPortAutoIncrement(true).setPortCount(portCount);
+        networkConfig.getInterfaces().setEnabled(true).addInterface("127.0.0.1");
+
+        JoinConfig joinConfig = networkConfig.getJoin();
+        joinConfig.getMulticastConfig().setEnabled(false);
+        joinConfig.getAwsConfig().setEnabled(false);
+        joinConfig.getTcpIpConfig().setEnabled(true);
+
+        for (int port = basePort; port < basePort + portCount; port++) {
+            joinConfig.getTcpIpConfig().addMember("127.0.0.1:" + port);
+        }
+
+        return config;
+    }
+}
@@ -0,0 +1,165 @@
+package com.budjb.spring.distributed.cluster.hazelcast.testing;
+
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summarizes a set of latency samples, along with the number of operations that timed out or failed and so
+ * produced no sample.
+ */
+public class LatencyReport {
+    /**
+     * Latency samples, in nanoseconds, in ascending order.
+     */
+    private final long[] samples;
+
+    /**
+     * Number of operations that timed out.
+     */
+    private final int timeouts;
+
+    /**
+     * Number of operations that failed.
+     */
+    private final int failures;
+
+    /**
+     * Constructor.
+     *
+     * @param samples Latency samples, in nanoseconds.
+     */
+    public LatencyReport(long[] samples) {
+        this(samples, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param samples  Latency samples, in nanoseconds, of the operations that completed.
+     * @param timeouts Number of operations that timed out.
+     */
+    public LatencyReport(long[] samples, int timeouts) {
+        this(samples, timeouts, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param samples  Latency samples, in nanoseconds, of the operations that completed.
+     * @param timeouts Number of operations that timed out.
+     * @param failures Number of operations that failed.
+     */
+    public LatencyReport(long[] samples, int timeouts, int failures) {
+        Assert.isTrue(samples.length + timeouts + failures > 0, "a latency report requires at least one operation");
+        this.samples = samples.clone();
+        this.timeouts = timeouts;
+        this.failures = failures;
+        Arrays.sort(this.samples);
+    }
+
+    /**
+     * Returns the number of samples, which excludes operations that timed out or failed.
+     *
+     * @return the number of samples.
+     */
+    public int getCount() {
+        return samples.length;
+    }
+
+    /**
+     * Returns the number of operations that timed out.
+     *
+     * @return the number of operations that timed out.
+     */
+    public int getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * Returns the number of operations that failed.
+     *
+     * @return the number of operations that failed.
+     */
+    public int getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns the latency at the given percentile, using the nearest-rank method.
+     *
+     * @param percentile Percentile, between 0 and 100.
+     * @param unit       Unit of the returned latency.
+     * @return the latency at the given percentile.
+     */
+    public long getPercentile(double percentile, TimeUnit unit) {
+        Assert.isTrue(percentile >= 0 && percentile <= 100, "the [percentile] must be between 0 and 100");
+        assertSamples();
+
+        int rank = (int) Math.ceil(percentile / 100 * samples.length);
+        return unit.convert(samples[Math.max(0, rank - 1)], TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the minimum latency.
+     *
+     * @param unit Unit of the returned latency.
+     * @return the minimum latency.
+     */
+    public long getMin(TimeUnit unit) {
+        assertSamples();
+        return unit.convert(samples[0], TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the maximum latency.
+     *
+     * @param unit Unit of the returned latency.
+     * @return the maximum latency.
+     */
+    public long getMax(TimeUnit unit) {
+        assertSamples();
+        return unit.convert(samples[samples.length - 1], TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the mean latency.
+     *
+     * @param unit Unit of the returned latency.
+     * @return the mean latency.
+     */
+    public long getMean(TimeUnit unit) {
+        assertSamples();
+        return unit.convert((long) Arrays.stream(samples).average().orElse(0), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        TimeUnit unit = TimeUnit.MICROSECONDS;
+
+        if (samples.length == 0) {
+            return "LatencyReport{count=0, timeouts=" + timeouts + ", failures=" + failures + "}";
+        }
+
+        return "LatencyReport{count=" + getCount() +
+            ", timeouts=" + timeouts +
+            ", failures=" + failures +
+            ", min=" + getMin(unit) + "us" +
+            ", p50=" + getPercentile(50, unit) + "us" +
+            ", p90=" + getPercentile(90, unit) + "us" +
+            ", p99=" + getPercentile(99, unit) + "us" +
+            ", max=" + getMax(unit) + "us" +
+            ", mean=" + getMean(unit) + "us}";
+    }
+
+    /**
+     * Ensures there is at least one sample to summarize.
+     */
+    private void assertSamples() {
+        Assert.state(samples.length > 0, "every operation in the latency report timed out or failed");
+    }
+}
@@ -1,6 +1,8 @@
 package com.budjb.spring.distributed.cluster.hazelcast;
 
 import com.budjb.spring.distributed.cluster.Instruction;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.HazelcastInstanceAware;
 import com.hazelcast.spring.context.SpringAware;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
@@ -17,12 +19,17 @@ import java.util.concurrent.Callable;
  * @param <T> Return type of the instruction.
  */
 @SpringAware
-public class AutowiringCallableWrapper<T> implements Serializable, Callable<T>, ApplicationContextAware {
+public class AutowiringCallableWrapper<T> implements Serializable, Callable<T>, ApplicationContextAware, HazelcastInstanceAware {
     /**
      * Wrapped instruction instance.
      */
     private Instruction<? extends T> instruction;
 
+    /**
+     * Cluster manager of the member running the instruction, if one is registered.
+     */
+    private transient HazelcastClusterManager clusterManager;
+
     /**
      * Constructor.
      *
@@ -37,6 +44,9 @@ public class AutowiringCallableWrapper<T> implements Serializable, Callable<T>,
      */
     @Override
     public T call() throws Exception {
+        if (clusterManager != null) {
+            return clusterManager.executeInstruction(instruction);
+        }
         return instruction.call();
     }
 
@@ -49,4 +59,12 @@ public class AutowiringCallableWrapper<T> implements Serializable, Callable<T>,
         beanFactory.autowireBean(instruction);
         beanFactory.initializeBean(instruction, instruction.getClass().getName());
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setHazelcastInstance(HazelcastInstance hazelcastInstance) {
+        clusterManager = HazelcastClusterManager.getRegisteredClusterManager(hazelcastInstance);
+    }
 }
@@ -1,21 +1,39 @@
 package com.budjb.spring.distributed.cluster.hazelcast;
 
 import com.budjb.spring.distributed.cluster.*;
+import com.budjb.spring.distributed.cluster.assignment.MemberLoadPublisher;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IExecutorService;
+import com.hazelcast.core.LifecycleEvent;
+import com.hazelcast.core.LifecycleListener;
 import com.hazelcast.core.Member;
 import com.hazelcast.core.MemberSelector;
+import com.hazelcast.core.MembershipAdapter;
+import com.hazelcast.core.MembershipEvent;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.Assert;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * A {@link ClusterManager} implementation backed by Hazelcast.
+ * <p>
+ * The leader of the cluster is the oldest Hazelcast member, as seen by the local member. Hazelcast maintains its
+ * member list in join order, so once a membership change has propagated, every member in the same cluster agrees
+ * on the leader. While a change is propagating, or when the cluster is split, members may briefly disagree, and
+ * more than one member may consider itself the leader. Leadership is recalculated locally whenever cluster
+ * membership changes, and is cleared when the local Hazelcast instance shuts down.
  */
-public class HazelcastClusterManager extends AbstractClusterManager implements InitializingBean {
+public class HazelcastClusterManager extends AbstractClusterManager implements InitializingBean, DisposableBean {
     /**
      * Name of the com.budjb.spring.lock.distributed map to store time markers.
      */
@@ -26,16 +44,56 @@ public class HazelcastClusterManager extends AbstractClusterManager implements I
      */
     private final static String EXECUTOR_NAME = "cluster-management";
 
+    /**
+     * Key the cluster manager registers itself under in the Hazelcast user context.
+     */
+    private final static String USER_CONTEXT_KEY = HazelcastClusterManager.class.getName();
+
     /**
      * Hazelcast instance.
      */
     private final HazelcastInstance hazelcastInstance;
 
+    /**
+     * Result transport properties.
+     */
+    private final ResultTransportProperties resultTransportProperties;
+
     /**
      * Hazelcast executor service.
      */
     private IExecutorService executorService;
 
+    /**
+     * Registration ID of the membership listener that tracks leadership.
+     */
+    private String membershipListenerId;
+
+    /**
+     * Registration ID of the lifecycle listener that clears leadership on shutdown.
+     */
+    private String lifecycleListenerId;
+
+    /**
+     * Whether the cluster manager is active and may hold leadership.
+     */
+    private volatile boolean active;
+
+    /**
+     * Provider of the member load publisher, if one is configured.
+     */
+    private ObjectProvider<MemberLoadPublisher> memberLoadPublisherProvider;
+
+    /**
+     * Member load publisher, once resolved.
+     */
+    private volatile MemberLoadPublisher memberLoadPublisher;
+
+    /**
+     * Whether the member load publisher has been resolved.
+     */
+    private volatile boolean memberLoadPublisherResolved;
+
     /**
      * Constructor.
      *
@@ -43,8 +101,62 @@ public class HazelcastClusterManager extends AbstractClusterManager implements I
      * @param clusterConfigurationProperties Cluster configuration properties.
      */
     public HazelcastClusterManager(HazelcastInstance hazelcastInstance, ClusterConfigurationProperties clusterConfigurationProperties) {
+        this(hazelcastInstance, clusterConfigurationProperties, new ResultTransportProperties());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param hazelcastInstance              Hazelcast instance backing the cluster manager.
+     * @param clusterConfigurationProperties Cluster configuration properties.
+     * @param resultTransportProperties      Result transport properties.
+     */
+    public HazelcastClusterManager(HazelcastInstance hazelcastInstance, ClusterConfigurationProperties clusterConfigurationProperties, ResultTransportProperties resultTransportProperties) {
         super(clusterConfigurationProperties);
         this.hazelcastInstance = hazelcastInstance;
+        this.resultTransportProperties = resultTransportProperties;
+    }
+
+    /**
+     * Sets the provider of the member load publisher that tracks instructions run on this member.
+     * The publisher is resolved once, the first time an instruction runs.
+     *
+     * @param memberLoadPublisherProvider Provider of the member load publisher.
+     */
+    public void setMemberLoadPublisherProvider(ObjectProvider<MemberLoadPublisher> memberLoadPublisherProvider) {
+        this.memberLoadPublisherProvider = memberLoadPublisherProvider;
+    }
+
+    /**
+     * Returns the cluster manager registered with a Hazelcast instance.
+     *
+     * @param hazelcastInstance Hazelcast instance.
+     * @return the cluster manager registered with the Hazelcast instance, or {@code null} if there is none.
+     */
+    static HazelcastClusterManager getRegisteredClusterManager(HazelcastInstance hazelcastInstance) {
+        return (HazelcastClusterManager) hazelcastInstance.getUserContext().get(USER_CONTEXT_KEY);
+    }
+
+    /**
+     * Runs an instruction on this member, tracking it with the member load publisher if one is configured.
+     *
+     * @param instruction Instruction to run.
+     * @param <T>         Return type of the instruction.
+     * @return The result of the instruction.
+     * @throws Exception when the instruction fails.
+     */
+    <T> T executeInstruction(Callable<T> instruction) throws Exception {
+        if (!memberLoadPublisherResolved) {
+            memberLoadPublisher = memberLoadPublisherProvider != null ? memberLoadPublisherProvider.getIfAvailable() : null;
+            memberLoadPublisherResolved = true;
+        }
+
+        MemberLoadPublisher memberLoadPublisher = this.memberLoadPublisher;
+
+        if (memberLoadPublisher != null) {
+            return memberLoadPublisher.execute(instruction);
+        }
+        return instruction.call();
     }
 
     /**
@@ -59,11 +171,30 @@ public class HazelcastClusterManager extends AbstractClusterManager implements I
      * {@inheritDoc}
      */
     @Override
+    public ClusterMember getLocalMember() {
+        return new HazelcastClusterMember(hazelcastInstance.getCluster().getLocalMember());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the result transport is enabled, large results are compressed and streamed back in chunks
+     * as they are retrieved from the returned future.
+     */
+    @Override
     protected <T> Future<T> submitInstruction(ClusterMember clusterMember, Instruction<? extends T> instruction) {
-        return executorService.submit(
-            new AutowiringCallableWrapper<>(instruction),
-            new SingleMemberSelector(((HazelcastClusterMember) clusterMember).getMember())
+        MemberSelector memberSelector = new SingleMemberSelector(((HazelcastClusterMember) clusterMember).getMember());
+
+        if (!resultTransportProperties.isEnabled()) {
+            return executorService.submit(new AutowiringCallableWrapper<>(instruction), memberSelector);
+        }
+
+        Future<ResultEnvelope> future = executorService.submit(
+            new ResultTransportCallableWrapper<>(instruction, resultTransportProperties),
+            memberSelector
         );
+
+        return new ResultTransportFuture<>(future, hazelcastInstance);
     }
 
     /**
@@ -80,6 +211,103 @@ public class HazelcastClusterManager extends AbstractClusterManager implements I
     @Override
     public void afterPropertiesSet() {
         executorService = hazelcastInstance.getExecutorService(EXECUTOR_NAME);
+
+        if (resultTransportProperties.isEnabled()) {
+            Assert.isTrue(resultTransportProperties.getChunkTtl() > 0, "the result transport [chunkTtl] must be greater than 0");
+            ResultTransport.configure(hazelcastInstance);
+        }
+
+        hazelcastInstance.getUserContext().put(USER_CONTEXT_KEY, this);
+
+        lifecycleListenerId = hazelcastInstance.getLifecycleService().addLifecycleListener(new LeadershipLifecycleListener());
+        membershipListenerId = hazelcastInstance.getCluster().addMembershipListener(new LeadershipMembershipListener());
+
+        active = true;
+        electLeader(() -> hazelcastInstance.getCluster().getMembers());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void destroy() {
+        deactivate();
+
+        hazelcastInstance.getUserContext().remove(USER_CONTEXT_KEY, this);
+
+        if (hazelcastInstance.getLifecycleService().isRunning()) {
+            if (membershipListenerId != null) {
+                hazelcastInstance.getCluster().removeMembershipListener(membershipListenerId);
+            }
+            if (lifecycleListenerId != null) {
+                hazelcastInstance.getLifecycleService().removeLifecycleListener(lifecycleListenerId);
+            }
+        }
+
+        membershipListenerId = null;
+        lifecycleListenerId = null;
+    }
+
+    /**
+     * Determines the leader of the cluster, which is the oldest member of the given member set. The member set
+     * is read while holding the leadership lock, so that a deactivation can not be overwritten by an election
+     * that was already in progress.
+     *
+     * @param members Supplier of the members of the cluster, in join order.
+     */
+    private void electLeader(Supplier<Set<Member>> members) {
+        updateLeader(() -> {
+            if (!active) {
+                return null;
+            }
+
+            Iterator<Member> iterator = members.get().iterator();
+            return iterator.hasNext() ? new HazelcastClusterMember(iterator.next()) : null;
+        });
+    }
+
+    /**
+     * Stops tracking leadership and clears the local leadership state.
+     */
+    private void deactivate() {
+        active = false;
+        updateLeader((ClusterMember) null);
+    }
+
+    /**
+     * A Hazelcast membership listener that re-evaluates leadership when members join or leave the cluster.
+     */
+    private class LeadershipMembershipListener extends MembershipAdapter {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void memberAdded(MembershipEvent membershipEvent) {
+            electLeader(membershipEvent::getMembers);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void memberRemoved(MembershipEvent membershipEvent) {
+            electLeader(membershipEvent::getMembers);
+        }
+    }
+
+    /**
+     * A Hazelcast lifecycle listener that clears leadership as soon as the local instance begins shutting down.
+     */
+    private class LeadershipLifecycleListener implements LifecycleListener {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void stateChanged(LifecycleEvent event) {
+            if (event.getState() == LifecycleEvent.LifecycleState.SHUTTING_DOWN) {
+                deactivate();
+            }
+        }
     }
 
     /**
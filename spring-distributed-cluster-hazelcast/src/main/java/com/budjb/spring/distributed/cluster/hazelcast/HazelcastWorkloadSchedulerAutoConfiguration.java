@@ -2,17 +2,26 @@ package com.budjb.spring.distributed.cluster.hazelcast;
 
 import com.budjb.spring.distributed.cluster.ClusterConfigurationProperties;
 import com.budjb.spring.distributed.cluster.ClusterManager;
+import com.budjb.spring.distributed.cluster.assignment.MemberLoadPublisher;
 import com.hazelcast.core.HazelcastInstance;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 class HazelcastWorkloadSchedulerAutoConfiguration {
+    @Bean
+    ResultTransportProperties resultTransportProperties() {
+        return new ResultTransportProperties();
+    }
+
     @Bean
     @ConditionalOnMissingBean
     @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
-    ClusterManager clusterManager(HazelcastInstance hazelcastInstance, ClusterConfigurationProperties clusterConfigurationProperties) {
-        return new HazelcastClusterManager(hazelcastInstance, clusterConfigurationProperties);
+    ClusterManager clusterManager(HazelcastInstance hazelcastInstance, ClusterConfigurationProperties clusterConfigurationProperties, ResultTransportProperties resultTransportProperties, ObjectProvider<MemberLoadPublisher> memberLoadPublisherProvider) {
+        HazelcastClusterManager clusterManager = new HazelcastClusterManager(hazelcastInstance, clusterConfigurationProperties, resultTransportProperties);
+        clusterManager.setMemberLoadPublisherProvider(memberLoadPublisherProvider);
+        return clusterManager;
     }
 }
@@ -0,0 +1,113 @@
+package com.budjb.spring.distributed.cluster.hazelcast;
+
+import java.io.Serializable;
+
+/**
+ * Carries an encoded instruction result from the member that ran the instruction back to the caller.
+ * <p>
+ * Small results are carried inline. Results that span more than one chunk are left in a distributed map and
+ * only their location is carried in the envelope, so that the caller may stream them one chunk at a time.
+ */
+class ResultEnvelope implements Serializable {
+    /**
+     * Inline payload, or {@code null} if the payload was split into chunks.
+     */
+    private final byte[] payload;
+
+    /**
+     * Whether the payload is GZIP compressed.
+     */
+    private final boolean compressed;
+
+    /**
+     * ID of the chunked transfer, or {@code null} if the payload is inline.
+     */
+    private final String transferId;
+
+    /**
+     * Number of chunks in the transfer.
+     */
+    private final int chunkCount;
+
+    /**
+     * Constructor.
+     *
+     * @param payload    Inline payload.
+     * @param compressed Whether the payload is GZIP compressed.
+     * @param transferId ID of the chunked transfer.
+     * @param chunkCount Number of chunks in the transfer.
+     */
+    private ResultEnvelope(byte[] payload, boolean compressed, String transferId, int chunkCount) {
+        this.payload = payload;
+        this.compressed = compressed;
+        this.transferId = transferId;
+        this.chunkCount = chunkCount;
+    }
+
+    /**
+     * Creates an envelope that carries its payload inline.
+     *
+     * @param payload    Payload.
+     * @param compressed Whether the payload is GZIP compressed.
+     * @return A new envelope.
+     */
+    static ResultEnvelope inline(byte[] payload, boolean compressed) {
+        return new ResultEnvelope(payload, compressed, null, 0);
+    }
+
+    /**
+     * Creates an envelope that refers to a compressed payload stored as chunks in a distributed map.
+     *
+     * @param transferId ID of the chunked transfer.
+     * @param chunkCount Number of chunks in the transfer.
+     * @return A new envelope.
+     */
+    static ResultEnvelope chunked(String transferId, int chunkCount) {
+        return new ResultEnvelope(null, true, transferId, chunkCount);
+    }
+
+    /**
+     * Returns the inline payload.
+     *
+     * @return the inline payload, or {@code null} if the payload was split into chunks.
+     */
+    byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * Returns whether the payload is GZIP compressed.
+     *
+     * @return whether the payload is GZIP compressed.
+     */
+    boolean isCompressed() {
+        return compressed;
+    }
+
+    /**
+     * Returns whether the payload was split into chunks.
+     *
+     * @return whether the payload was split into chunks.
+     */
+    boolean isChunked() {
+        return transferId != null;
+    }
+
+    /**
+     * Returns the ID of the chunked transfer.
+     *
+     * @return the ID of the chunked transfer, or {@code null} if the payload is inline.
+     */
+    String getTransferId() {
+        return transferId;
+    }
+
+    /**
+     * Returns the number of chunks in the transfer.
+     *
+     * @return the number of chunks in the transfer.
+     */
+    int getChunkCount() {
+        return chunkCount;
+    }
+}
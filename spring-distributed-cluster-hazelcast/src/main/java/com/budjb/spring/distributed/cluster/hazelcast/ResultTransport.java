@@ -0,0 +1,488 @@
+package com.budjb.spring.distributed.cluster.hazelcast;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import org.springframework.core.ConfigurableObjectInputStream;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes and decodes instruction results carried by a {@link ResultEnvelope}.
+ * <p>
+ * Results whose serialized form is no larger than the compression threshold are carried inline, uncompressed.
+ * Larger results are GZIP compressed as they are serialized and cut into chunks. A compressed result that fits
+ * in a single chunk is carried inline; otherwise its chunks are stored in a distributed map and read back by the
+ * caller one at a time, removing each chunk as it is read.
+ * <p>
+ * Streaming bounds the memory the caller needs to decode a result to roughly one chunk, rather than the whole
+ * compressed result. It does not bound the memory of the cluster as a whole: chunks waiting to be read are held
+ * by whichever members own their partitions, so a caller that is itself a data member holds roughly its share
+ * (about 1/N) of all pending chunks of a fan-in in its heap until they are read. The chunk map is configured
+ * without backups, since results are transient and a lost chunk already fails the result it belongs to.
+ */
+class ResultTransport {
+    /**
+     * Name of the distributed map that holds result chunks in transit.
+     */
+    private final static String CHUNK_MAP_NAME = "distributed-result-chunks";
+
+    /**
+     * Configures the distributed map that holds result chunks in transit, unless it has already been configured.
+     * This must happen before the map is first used.
+     *
+     * @param hazelcastInstance Hazelcast instance.
+     */
+    static void configure(HazelcastInstance hazelcastInstance) {
+        Config config = hazelcastInstance.getConfig();
+
+        if (config.getMapConfigs().containsKey(CHUNK_MAP_NAME)) {
+            return;
+        }
+
+        config.addMapConfig(new MapConfig(CHUNK_MAP_NAME).setBackupCount(0).setAsyncBackupCount(0));
+    }
+
+    /**
+     * Encodes an instruction result. If encoding fails, any chunks that were already stored are removed.
+     *
+     * @param result               Result to encode.
+     * @param hazelcastInstance    Hazelcast instance used to store result chunks.
+     * @param compressionThreshold Serialized size, in bytes, above which the result is compressed.
+     * @param chunkSize            Size, in bytes, of result chunks.
+     * @param chunkTtl             How long, in milliseconds, stored chunks are retained if they are never read.
+     * @return An envelope containing or referring to the encoded result.
+     * @throws IOException when the result can not be serialized.
+     */
+    static ResultEnvelope encode(Object result, HazelcastInstance hazelcastInstance, int compressionThreshold, int chunkSize, long chunkTtl) throws IOException {
+        EncodingOutputStream outputStream = new EncodingOutputStream(getChunkMap(hazelcastInstance), compressionThreshold, chunkSize, chunkTtl);
+
+        try {
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream);
+            objectOutputStream.writeObject(result);
+            objectOutputStream.close();
+        }
+        catch (Throwable e) {
+            try {
+                outputStream.discard();
+            }
+            catch (RuntimeException discardException) {
+                e.addSuppressed(discardException);
+            }
+            throw e;
+        }
+
+        return outputStream.getEnvelope();
+    }
+
+    /**
+     * Decodes an instruction result.
+     *
+     * @param envelope          Envelope containing or referring to the encoded result.
+     * @param hazelcastInstance Hazelcast instance used to retrieve result chunks.
+     * @return The decoded result.
+     * @throws IOException            when the result can not be read.
+     * @throws ClassNotFoundException when the class of the result can not be found.
+     */
+    static Object decode(ResultEnvelope envelope, HazelcastInstance hazelcastInstance) throws IOException, ClassNotFoundException {
+        InputStream source;
+
+        if (envelope.isChunked()) {
+            source = new ChunkInputStream(getChunkMap(hazelcastInstance), envelope.getTransferId(), envelope.getChunkCount());
+        }
+        else {
+            source = new ByteArrayInputStream(envelope.getPayload());
+        }
+
+        try (InputStream inputStream = source) {
+            InputStream payload = envelope.isCompressed() ? new GZIPInputStream(inputStream) : inputStream;
+            return new ConfigurableObjectInputStream(payload, hazelcastInstance.getConfig().getClassLoader()).readObject();
+        }
+    }
+
+    /**
+     * Returns the distributed map that holds result chunks in transit.
+     *
+     * @param hazelcastInstance Hazelcast instance.
+     * @return the distributed map that holds result chunks in transit.
+     */
+    private static IMap<String, byte[]> getChunkMap(HazelcastInstance hazelcastInstance) {
+        return hazelcastInstance.getMap(CHUNK_MAP_NAME);
+    }
+
+    /**
+     * Returns the key of a chunk in the chunk map.
+     *
+     * @param transferId ID of the transfer.
+     * @param index      Index of the chunk.
+     * @return the key of the chunk.
+     */
+    private static String getChunkKey(String transferId, int index) {
+        return transferId + ":" + index;
+    }
+
+    /**
+     * An output stream that buffers a serialized result until it exceeds the compression threshold, and
+     * compresses it into chunks from that point on.
+     */
+    private static class EncodingOutputStream extends OutputStream {
+        /**
+         * Chunk map.
+         */
+        private final IMap<String, byte[]> chunkMap;
+
+        /**
+         * Serialized size above which the result is compressed.
+         */
+        private final int compressionThreshold;
+
+        /**
+         * Size of result chunks.
+         */
+        private final int chunkSize;
+
+        /**
+         * How long stored chunks are retained if they are never read.
+         */
+        private final long chunkTtl;
+
+        /**
+         * Uncompressed buffer used until the compression threshold is reached.
+         */
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        /**
+         * Chunking stream, once the compression threshold is reached.
+         */
+        private ChunkOutputStream chunkOutputStream;
+
+        /**
+         * Compressing stream, once the compression threshold is reached.
+         */
+        private GZIPOutputStream gzipOutputStream;
+
+        /**
+         * Constructor.
+         *
+         * @param chunkMap             Chunk map.
+         * @param compressionThreshold Serialized size above which the result is compressed.
+         * @param chunkSize            Size of result chunks.
+         * @param chunkTtl             How long stored chunks are retained if they are never read.
+         */
+        EncodingOutputStream(IMap<String, byte[]> chunkMap, int compressionThreshold, int chunkSize, long chunkTtl) {
+            this.chunkMap = chunkMap;
+            this.compressionThreshold = compressionThreshold;
+            this.chunkSize = chunkSize;
+            this.chunkTtl = chunkTtl;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (gzipOutputStream == null && buffer.size() + len > compressionThreshold) {
+                chunkOutputStream = new ChunkOutputStream(chunkMap, chunkSize, chunkTtl);
+                gzipOutputStream = new GZIPOutputStream(chunkOutputStream);
+                buffer.writeTo(gzipOutputStream);
+                buffer = null;
+            }
+
+            if (gzipOutputStream != null) {
+                gzipOutputStream.write(b, off, len);
+            }
+            else {
+                buffer.write(b, off, len);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() throws IOException {
+            if (gzipOutputStream != null) {
+                gzipOutputStream.close();
+            }
+        }
+
+        /**
+         * Removes any chunks that were stored for the encoded result.
+         */
+        void discard() {
+            if (chunkOutputStream != null) {
+                chunkOutputStream.discard();
+            }
+        }
+
+        /**
+         * Returns the envelope for the encoded result. Only valid once the stream has been closed.
+         *
+         * @return the envelope for the encoded result.
+         */
+        ResultEnvelope getEnvelope() {
+            if (chunkOutputStream == null) {
+                return ResultEnvelope.inline(buffer.toByteArray(), false);
+            }
+            return chunkOutputStream.getEnvelope();
+        }
+    }
+
+    /**
+     * An output stream that cuts its contents into fixed size chunks and stores them in the chunk map.
+     * If the contents fit in a single chunk, nothing is stored and the chunk is carried inline instead.
+     */
+    private static class ChunkOutputStream extends OutputStream {
+        /**
+         * Chunk map.
+         */
+        private final IMap<String, byte[]> chunkMap;
+
+        /**
+         * How long stored chunks are retained if they are never read.
+         */
+        private final long chunkTtl;
+
+        /**
+         * ID of the transfer.
+         */
+        private final String transferId = UUID.randomUUID().toString();
+
+        /**
+         * Chunk currently being filled.
+         */
+        private byte[] chunk;
+
+        /**
+         * Position within the current chunk.
+         */
+        private int position = 0;
+
+        /**
+         * Number of chunks stored so far.
+         */
+        private int chunkCount = 0;
+
+        /**
+         * Envelope for the transfer, once the stream is closed.
+         */
+        private ResultEnvelope envelope;
+
+        /**
+         * Constructor.
+         *
+         * @param chunkMap  Chunk map.
+         * @param chunkSize Size of result chunks.
+         * @param chunkTtl  How long stored chunks are retained if they are never read.
+         */
+        ChunkOutputStream(IMap<String, byte[]> chunkMap, int chunkSize, long chunkTtl) {
+            this.chunkMap = chunkMap;
+            this.chunkTtl = chunkTtl;
+            this.chunk = new byte[chunkSize];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(byte[] b, int off, int len) {
+            while (len > 0) {
+                if (position == chunk.length) {
+                    storeChunk(chunk);
+                    chunk = new byte[chunk.length];
+                    position = 0;
+                }
+
+                int count = Math.min(len, chunk.length - position);
+                System.arraycopy(b, off, chunk, position, count);
+                position += count;
+                off += count;
+                len -= count;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() {
+            if (envelope != null) {
+                return;
+            }
+
+            if (chunkCount == 0) {
+                envelope = ResultEnvelope.inline(Arrays.copyOf(chunk, position), true);
+            }
+            else {
+                if (position > 0) {
+                    storeChunk(Arrays.copyOf(chunk, position));
+                }
+                envelope = ResultEnvelope.chunked(transferId, chunkCount);
+            }
+
+            chunk = null;
+        }
+
+        /**
+         * Removes any chunks that were stored for the transfer.
+         */
+        void discard() {
+            for (int i = 0; i < chunkCount; i++) {
+                chunkMap.delete(getChunkKey(transferId, i));
+            }
+            chunk = null;
+        }
+
+        /**
+         * Stores a chunk in the chunk map.
+         *
+         * @param data Contents of the chunk.
+         */
+        private void storeChunk(byte[] data) {
+            chunkMap.set(getChunkKey(transferId, chunkCount++), data, chunkTtl, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Returns the envelope for the transfer. Only valid once the stream has been closed.
+         *
+         * @return the envelope for the transfer.
+         */
+        ResultEnvelope getEnvelope() {
+            return envelope;
+        }
+    }
+
+    /**
+     * An input stream that reads a chunked transfer from the chunk map, retrieving and removing one chunk at a time.
+     */
+    private static class ChunkInputStream extends InputStream {
+        /**
+         * Chunk map.
+         */
+        private final IMap<String, byte[]> chunkMap;
+
+        /**
+         * ID of the transfer.
+         */
+        private final String transferId;
+
+        /**
+         * Number of chunks in the transfer.
+         */
+        private final int chunkCount;
+
+        /**
+         * Index of the next chunk to retrieve.
+         */
+        private int next = 0;
+
+        /**
+         * Chunk currently being read.
+         */
+        private byte[] chunk;
+
+        /**
+         * Position within the current chunk.
+         */
+        private int position = 0;
+
+        /**
+         * Constructor.
+         *
+         * @param chunkMap   Chunk map.
+         * @param transferId ID of the transfer.
+         * @param chunkCount Number of chunks in the transfer.
+         */
+        ChunkInputStream(IMap<String, byte[]> chunkMap, String transferId, int chunkCount) {
+            this.chunkMap = chunkMap;
+            this.transferId = transferId;
+            this.chunkCount = chunkCount;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read() throws IOException {
+            if (!nextChunk()) {
+                return -1;
+            }
+            return chunk[position++] & 0xff;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!nextChunk()) {
+                return -1;
+            }
+
+            int count = Math.min(len, chunk.length - position);
+            System.arraycopy(chunk, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        /**
+         * Removes any chunks that were not read from the chunk map.
+         */
+        @Override
+        public void close() {
+            while (next < chunkCount) {
+                chunkMap.delete(getChunkKey(transferId, next++));
+            }
+            chunk = null;
+        }
+
+        /**
+         * Ensures there is unread data in the current chunk, retrieving the next chunk if necessary.
+         *
+         * @return whether there is unread data available.
+         * @throws IOException when a chunk is missing from the chunk map.
+         */
+        private boolean nextChunk() throws IOException {
+            while (chunk == null || position == chunk.length) {
+                if (next >= chunkCount) {
+                    return false;
+                }
+
+                chunk = chunkMap.remove(getChunkKey(transferId, next));
+
+                if (chunk == null) {
+                    throw new IOException("chunk " + next + " of result transfer " + transferId + " is missing");
+                }
+
+                next++;
+                position = 0;
+            }
+            return true;
+        }
+    }
+}
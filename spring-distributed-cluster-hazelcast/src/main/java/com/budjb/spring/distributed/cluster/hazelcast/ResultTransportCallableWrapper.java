@@ -0,0 +1,84 @@
+package com.budjb.spring.distributed.cluster.hazelcast;
+
+import com.budjb.spring.distributed.cluster.Instruction;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.HazelcastInstanceAware;
+import com.hazelcast.spring.context.SpringAware;
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+
+import java.io.Serializable;
+import java.util.concurrent.Callable;
+
+/**
+ * A wrapper for an {@link Instruction} that runs the instruction and encodes its result
+ * with {@link ResultTransport} before it is returned to the caller.
+ *
+ * @param <T> Return type of the instruction.
+ */
+@SpringAware
+class ResultTransportCallableWrapper<T> implements Serializable, Callable<ResultEnvelope>, ApplicationContextAware, HazelcastInstanceAware {
+    /**
+     * Wrapped instruction.
+     */
+    private final AutowiringCallableWrapper<T> callable;
+
+    /**
+     * Serialized size, in bytes, above which the result is compressed.
+     */
+    private final int compressionThreshold;
+
+    /**
+     * Size, in bytes, of result chunks.
+     */
+    private final int chunkSize;
+
+    /**
+     * How long, in milliseconds, stored chunks are retained if they are never read.
+     */
+    private final long chunkTtl;
+
+    /**
+     * Hazelcast instance of the member running the instruction.
+     */
+    private transient HazelcastInstance hazelcastInstance;
+
+    /**
+     * Constructor.
+     *
+     * @param instruction               Instruction to wrap.
+     * @param resultTransportProperties Result transport properties.
+     */
+    ResultTransportCallableWrapper(Instruction<? extends T> instruction, ResultTransportProperties resultTransportProperties) {
+        this.callable = new AutowiringCallableWrapper<>(instruction);
+        this.compressionThreshold = resultTransportProperties.getCompressionThreshold();
+        this.chunkSize = resultTransportProperties.getChunkSize();
+        this.chunkTtl = resultTransportProperties.getChunkTtl();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResultEnvelope call() throws Exception {
+        return ResultTransport.encode(callable.call(), hazelcastInstance, compressionThreshold, chunkSize, chunkTtl);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+        callable.setApplicationContext(applicationContext);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setHazelcastInstance(HazelcastInstance hazelcastInstance) {
+        this.hazelcastInstance = hazelcastInstance;
+        callable.setHazelcastInstance(hazelcastInstance);
+    }
+}
@@ -0,0 +1,121 @@
+package com.budjb.spring.distributed.cluster.hazelcast;
+
+import com.hazelcast.core.HazelcastInstance;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link Future} that decodes a {@link ResultEnvelope} into the instruction result when it is retrieved.
+ * <p>
+ * Decoding happens on the thread calling {@link #get()}, so chunked results are streamed in as they are consumed
+ * rather than all being materialized when the underlying future completes.
+ *
+ * @param <T> Return type of the instruction.
+ */
+class ResultTransportFuture<T> implements Future<T> {
+    /**
+     * Future of the encoded result.
+     */
+    private final Future<ResultEnvelope> future;
+
+    /**
+     * Hazelcast instance used to retrieve result chunks.
+     */
+    private final HazelcastInstance hazelcastInstance;
+
+    /**
+     * Whether the result has been decoded.
+     */
+    private boolean decoded = false;
+
+    /**
+     * Decoded result of the instruction.
+     */
+    private T result;
+
+    /**
+     * Cause of the failure to decode the result, if decoding failed.
+     */
+    private Exception decodeFailure;
+
+    /**
+     * Constructor.
+     *
+     * @param future            Future of the encoded result.
+     * @param hazelcastInstance Hazelcast instance used to retrieve result chunks.
+     */
+    ResultTransportFuture(Future<ResultEnvelope> future, HazelcastInstance hazelcastInstance) {
+        this.future = future;
+        this.hazelcastInstance = hazelcastInstance;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return future.cancel(mayInterruptIfRunning);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCancelled() {
+        return future.isCancelled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T get() throws InterruptedException, ExecutionException {
+        return decode(future.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        return decode(future.get(timeout, unit));
+    }
+
+    /**
+     * Decodes the instruction result. Chunks are consumed as they are read, so the result is only decoded
+     * once, and later calls return the same result or fail with the same cause.
+     *
+     * @param envelope Envelope containing or referring to the encoded result.
+     * @return The instruction result.
+     * @throws ExecutionException when the result can not be decoded.
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized T decode(ResultEnvelope envelope) throws ExecutionException {
+        if (!decoded) {
+            try {
+                result = (T) ResultTransport.decode(envelope, hazelcastInstance);
+            }
+            catch (Exception e) {
+                decodeFailure = e;
+            }
+            decoded = true;
+        }
+
+        if (decodeFailure != null) {
+            throw new ExecutionException("unable to decode the result of an instruction", decodeFailure);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package com.budjb.spring.distributed.cluster.hazelcast;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("cluster.hazelcast.result-transport")
+public class ResultTransportProperties {
+    /**
+     * Whether instruction results are returned through the compressing and chunking result transport.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Size, in bytes, of a serialized instruction result above which the result is compressed.
+     */
+    private int compressionThreshold = 64 * 1024;
+
+    /**
+     * Size, in bytes, of the chunks that compressed instruction results are streamed in.
+     */
+    private int chunkSize = 1024 * 1024;
+
+    /**
+     * How long, in milliseconds, stored result chunks are retained if they are never read. Must be greater than 0.
+     */
+    private long chunkTtl = 60000L;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public long getChunkTtl() {
+        return chunkTtl;
+    }
+
+    public void setChunkTtl(long chunkTtl) {
+        this.chunkTtl = chunkTtl;
+    }
+}
@@ -0,0 +1,191 @@
+package com.budjb.spring.distributed.cluster.hazelcast
+
+import com.budjb.spring.distributed.cluster.ClusterConfigurationProperties
+import com.budjb.spring.distributed.cluster.ClusterManager
+import com.budjb.spring.distributed.cluster.ClusterMember
+import com.budjb.spring.distributed.cluster.hazelcast.support.LargeResultInstruction
+import com.budjb.spring.distributed.cluster.hazelcast.support.MemberIdInstruction
+import com.budjb.spring.distributed.cluster.hazelcast.testing.HazelcastClusterHarness
+import com.budjb.spring.distributed.cluster.hazelcast.testing.LatencyReport
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+class HazelcastClusterManagerSpec extends Specification {
+    HazelcastClusterHarness harness
+
+    def cleanup() {
+        harness?.close()
+    }
+
+    def 'When an instruction is submitted, every member runs it and returns its result'() {
+        setup:
+        harness = new HazelcastClusterHarness(3).start()
+
+        when:
+        Map<ClusterMember, String> results = harness.getClusterManager(0).submitInstruction(new MemberIdInstruction())
+
+        then:
+        results.size() == 3
+        results.every { member, id -> ((HazelcastClusterMember) member).member.uuid == id }
+    }
+
+    def 'The oldest member is the leader of the cluster'() {
+        setup:
+        harness = new HazelcastClusterHarness(3).start()
+
+        expect:
+        harness.getClusterManager(0).isLeader()
+        !harness.getClusterManager(1).isLeader()
+        !harness.getClusterManager(2).isLeader()
+        harness.getClusterManager(2).getLeader() == harness.getClusterManager(0).getLocalMember()
+    }
+
+    def 'When the leader is killed, leadership moves to the next oldest member'() {
+        setup:
+        harness = new HazelcastClusterHarness(3).start()
+        PollingConditions conditions = new PollingConditions(timeout: 30)
+
+        when:
+        harness.kill(0)
+
+        then:
+        conditions.eventually {
+            assert harness.getClusterManager(1).isLeader()
+            assert !harness.getClusterManager(2).isLeader()
+            assert harness.getClusterManager(2).getLeader() == harness.getClusterManager(1).getLocalMember()
+        }
+    }
+
+    def 'When the leader is killed, it no longer reports itself as the leader'() {
+        setup:
+        harness = new HazelcastClusterHarness(2).start()
+        ClusterManager clusterManager = harness.getClusterManager(0)
+
+        when:
+        harness.kill(0)
+
+        then:
+        !clusterManager.isLeader()
+        clusterManager.getLeader() == null
+    }
+
+    def 'When a member is slower than the instruction timeout, only its result is missing'() {
+        setup:
+        ClusterConfigurationProperties clusterConfigurationProperties = new ClusterConfigurationProperties(instructionTimeout: 1000)
+        harness = new HazelcastClusterHarness(3, clusterConfigurationProperties, new ResultTransportProperties()).start()
+        harness.setLatency(2, 5000)
+
+        when:
+        Map<ClusterMember, String> results = harness.getClusterManager(0).submitInstruction(HazelcastClusterHarness.inject(new MemberIdInstruction()))
+
+        then:
+        results.size() == 2
+        !results.values().contains(harness.getNode(2).hazelcastInstance.cluster.localMember.uuid)
+    }
+
+    def 'When a member is lost during a fan-out, the submission fails with an execution exception'() {
+        setup:
+        harness = new HazelcastClusterHarness(3).start()
+        harness.setLatency(2, 5000)
+        harness.kill(2, 500)
+
+        when:
+        harness.getClusterManager(0).submitInstruction(HazelcastClusterHarness.inject(new MemberIdInstruction()))
+
+        then:
+        thrown ExecutionException
+    }
+
+    def 'When the result transport is enabled, large results are streamed back intact and their chunks are removed'() {
+        setup:
+        ResultTransportProperties resultTransportProperties = new ResultTransportProperties(enabled: true, compressionThreshold: 1024, chunkSize: 4096)
+        harness = new HazelcastClusterHarness(2, new ClusterConfigurationProperties(), resultTransportProperties).start()
+
+        when:
+        Map<ClusterMember, List<String>> results = harness.getClusterManager(0).submitInstruction(new LargeResultInstruction(size: 10000, seed: 42))
+
+        then:
+        results.size() == 2
+        results.values().every { it == LargeResultInstruction.generate(10000, 42) }
+        harness.getNode(0).hazelcastInstance.getMap('distributed-result-chunks').isEmpty()
+    }
+
+    def 'When the result transport is enabled, small results are returned intact'() {
+        setup:
+        ResultTransportProperties resultTransportProperties = new ResultTransportProperties(enabled: true)
+        harness = new HazelcastClusterHarness(2, new ClusterConfigurationProperties(), resultTransportProperties).start()
+
+        when:
+        Map<ClusterMember, String> results = harness.getClusterManager(0).submitInstruction(new MemberIdInstruction())
+
+        then:
+        results.size() == 2
+        results.every { member, id -> ((HazelcastClusterMember) member).member.uuid == id }
+    }
+
+    def 'When fan-out latency is measured, the slowest member bounds the reported percentiles'() {
+        setup:
+        harness = new HazelcastClusterHarness(3).start()
+        harness.setLatency(1, 20)
+
+        when:
+        LatencyReport report = harness.measureFanOut(0, new MemberIdInstruction(), 20)
+
+        then:
+        report.count == 20
+        report.timeouts == 0
+        report.getPercentile(50, TimeUnit.MILLISECONDS) >= 20
+    }
+
+    def 'When a fan-out hits the instruction timeout, it is counted as a timeout rather than a latency sample'() {
+        setup:
+        ClusterConfigurationProperties clusterConfigurationProperties = new ClusterConfigurationProperties(instructionTimeout: 200)
+        harness = new HazelcastClusterHarness(2, clusterConfigurationProperties, new ResultTransportProperties()).start()
+        harness.setLatency(1, 1000)
+
+        when:
+        LatencyReport report = harness.measureFanOut(0, new MemberIdInstruction(), 2)
+
+        then:
+        report.count == 0
+        report.timeouts == 2
+    }
+
+    def 'When a member is lost while fan-out latency is measured, the failure is counted and measurement continues'() {
+        setup:
+        harness = new HazelcastClusterHarness(3).start()
+        harness.setLatency(2, 5000)
+        harness.kill(2, 500)
+
+        when:
+        LatencyReport report = harness.measureFanOut(0, new MemberIdInstruction(), 3)
+
+        then:
+        report.failures == 1
+        report.count + report.timeouts == 2
+    }
+
+    def 'Members only listen on the loopback interface'() {
+        setup:
+        harness = new HazelcastClusterHarness(1).start()
+        InetSocketAddress address = harness.getNode(0).hazelcastInstance.cluster.localMember.socketAddress
+        List<InetAddress> externalAddresses = NetworkInterface.networkInterfaces.toList()
+            .collectMany { it.inetAddresses.toList() }
+            .findAll { !it.loopbackAddress && !it.linkLocalAddress }
+
+        expect:
+        address.address.loopbackAddress
+        externalAddresses.every { InetAddress external ->
+            try {
+                new Socket().withCloseable { it.connect(new InetSocketAddress(external, address.port), 1000) }
+                return false
+            }
+            catch (IOException ignored) {
+                return true
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.budjb.spring.distributed.cluster.hazelcast
+
+import com.budjb.spring.distributed.cluster.ClusterConfigurationProperties
+import com.budjb.spring.distributed.cluster.hazelcast.support.LargeResultInstruction
+import com.hazelcast.config.Config
+import com.hazelcast.core.HazelcastInstance
+import com.hazelcast.core.IMap
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutionException
+
+class ResultTransportSpec extends Specification {
+    Map<String, byte[]> chunks = [:]
+    List<Long> chunkTtls = []
+    HazelcastInstance hazelcastInstance
+
+    def setup() {
+        IMap<String, byte[]> chunkMap = Stub(IMap) {
+            set(_, _, _, _) >> { args ->
+                chunks.put(args[0], args[1])
+                chunkTtls << args[3].toMillis(args[2])
+            }
+            remove(_) >> { args -> chunks.remove(args[0]) }
+            delete(_) >> { args -> chunks.remove(args[0]) }
+        }
+        hazelcastInstance = Stub(HazelcastInstance) {
+            getMap(_) >> chunkMap
+            getConfig() >> new Config()
+            getUserContext() >> new ConcurrentHashMap()
+        }
+    }
+
+    def 'When the serialized result is exactly the compression threshold, it is carried inline and uncompressed'() {
+        setup:
+        byte[] result = randomBytes(2000, 1)
+        int size = serializedSize(result)
+
+        when:
+        ResultEnvelope envelope = ResultTransport.encode(result, hazelcastInstance, size, 4096, 60000)
+
+        then:
+        !envelope.compressed
+        !envelope.chunked
+        envelope.payload.length == size
+        ResultTransport.decode(envelope, hazelcastInstance) == result
+    }
+
+    def 'When the serialized result is one byte over the compression threshold, it is compressed'() {
+        setup:
+        byte[] result = new byte[2000]
+        int size = serializedSize(result)
+
+        when:
+        ResultEnvelope envelope = ResultTransport.encode(result, hazelcastInstance, size - 1, 4096, 60000)
+
+        then:
+        envelope.compressed
+        ResultTransport.decode(envelope, hazelcastInstance) == result
+    }
+
+    def 'When a compressed result fits in a single chunk, it is carried inline and nothing is stored'() {
+        setup:
+        byte[] result = new byte[100000]
+
+        when:
+        ResultEnvelope envelope = ResultTransport.encode(result, hazelcastInstance, 1024, 65536, 60000)
+
+        then:
+        envelope.compressed
+        !envelope.chunked
+        chunks.isEmpty()
+        ResultTransport.decode(envelope, hazelcastInstance) == result
+    }
+
+    def 'When a compressed result spans several chunks, it is stored in chunks and removed as it is read'() {
+        setup:
+        byte[] result = randomBytes(20000, 2)
+
+        when:
+        ResultEnvelope envelope = ResultTransport.encode(result, hazelcastInstance, 1024, 4096, 60000)
+
+        then:
+        envelope.compressed
+        envelope.chunked
+        envelope.chunkCount > 1
+        chunks.size() == envelope.chunkCount
+
+        when:
+        Object decoded = ResultTransport.decode(envelope, hazelcastInstance)
+
+        then:
+        decoded == result
+        chunks.isEmpty()
+    }
+
+    def 'When a compressed result is an exact multiple of the chunk size, no empty trailing chunk is stored'() {
+        setup:
+        byte[] result = null
+        int compressedSize = 0
+        int chunkSize = 0
+
+        for (long seed = 0; chunkSize == 0; seed++) {
+            result = randomBytes(20000, seed)
+            compressedSize = ResultTransport.encode(result, hazelcastInstance, 0, 1024 * 1024, 60000).payload.length
+            chunkSize = (1024..(compressedSize.intdiv(2))).find { compressedSize % it == 0 } ?: 0
+        }
+
+        when:
+        ResultEnvelope envelope = ResultTransport.encode(result, hazelcastInstance, 0, chunkSize, 60000)
+
+        then:
+        envelope.chunked
+        envelope.chunkCount == compressedSize.intdiv(chunkSize)
+        chunks.size() == envelope.chunkCount
+        chunks.values().every { it.length == chunkSize }
+        ResultTransport.decode(envelope, hazelcastInstance) == result
+    }
+
+    def 'When the result is null, it is carried inline and decodes to null'() {
+        when:
+        ResultEnvelope envelope = ResultTransport.encode(null, hazelcastInstance, 1024, 4096, 60000)
+
+        then:
+        !envelope.compressed
+        !envelope.chunked
+        ResultTransport.decode(envelope, hazelcastInstance) == null
+    }
+
+    def 'When a chunk is missing, retrieving the result fails with an execution exception and the remaining chunks are removed'() {
+        setup:
+        ResultEnvelope envelope = ResultTransport.encode(randomBytes(20000, 3), hazelcastInstance, 1024, 4096, 60000)
+        chunks.remove(envelope.transferId + ':1')
+        ResultTransportFuture<byte[]> future = new ResultTransportFuture<>(CompletableFuture.completedFuture(envelope), hazelcastInstance)
+
+        when:
+        future.get()
+
+        then:
+        thrown ExecutionException
+        chunks.isEmpty()
+    }
+
+    def 'When the result of a chunked transfer is retrieved more than once, the same result is returned'() {
+        setup:
+        byte[] result = randomBytes(20000, 6)
+        ResultEnvelope envelope = ResultTransport.encode(result, hazelcastInstance, 1024, 4096, 60000)
+        ResultTransportFuture<byte[]> future = new ResultTransportFuture<>(CompletableFuture.completedFuture(envelope), hazelcastInstance)
+
+        when:
+        byte[] first = future.get()
+        byte[] second = future.get()
+
+        then:
+        envelope.chunked
+        first == result
+        second.is(first)
+        chunks.isEmpty()
+    }
+
+    def 'When decoding fails, retrieving the result again fails with the same cause'() {
+        setup:
+        ResultEnvelope envelope = ResultTransport.encode(randomBytes(20000, 7), hazelcastInstance, 1024, 4096, 60000)
+        chunks.remove(envelope.transferId + ':1')
+        ResultTransportFuture<byte[]> future = new ResultTransportFuture<>(CompletableFuture.completedFuture(envelope), hazelcastInstance)
+
+        when:
+        future.get()
+
+        then:
+        ExecutionException first = thrown()
+
+        when:
+        future.get()
+
+        then:
+        ExecutionException second = thrown()
+        second.cause.is(first.cause)
+    }
+
+    def 'When an instruction is run through the result transport, its chunks are stored with the configured TTL'() {
+        setup:
+        ResultTransportProperties resultTransportProperties = new ResultTransportProperties(compressionThreshold: 1024, chunkSize: 4096, chunkTtl: 12345)
+        ResultTransportCallableWrapper<List<String>> wrapper = new ResultTransportCallableWrapper<>(new LargeResultInstruction(size: 10000, seed: 8), resultTransportProperties)
+        wrapper.setHazelcastInstance(hazelcastInstance)
+
+        when:
+        ResultEnvelope envelope = wrapper.call()
+
+        then:
+        envelope.chunked
+        chunkTtls.size() == envelope.chunkCount
+        chunkTtls.every { it == 12345 }
+    }
+
+    def 'When the result transport is enabled with a chunk TTL that never expires, the cluster manager fails to start'() {
+        setup:
+        ResultTransportProperties resultTransportProperties = new ResultTransportProperties(enabled: true, chunkTtl: 0)
+        HazelcastClusterManager clusterManager = new HazelcastClusterManager(hazelcastInstance, new ClusterConfigurationProperties(), resultTransportProperties)
+
+        when:
+        clusterManager.afterPropertiesSet()
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def 'When decoding finishes before all chunks are read, the unread chunks are removed'() {
+        setup:
+        ResultEnvelope stored = ResultTransport.encode(randomBytes(20000, 4), hazelcastInstance, 1024, 4096, 60000)
+        chunks.put(stored.transferId + ':' + stored.chunkCount, new byte[16])
+        ResultEnvelope envelope = ResultEnvelope.chunked(stored.transferId, stored.chunkCount + 1)
+
+        when:
+        ResultTransport.decode(envelope, hazelcastInstance)
+
+        then:
+        chunks.isEmpty()
+    }
+
+    def 'When encoding fails after chunks were stored, the stored chunks are removed'() {
+        setup:
+        List<Object> result = [randomBytes(100000, 5), new Object()]
+
+        when:
+        ResultTransport.encode(result, hazelcastInstance, 1024, 4096, 60000)
+
+        then:
+        thrown NotSerializableException
+        chunks.isEmpty()
+    }
+
+    private static byte[] randomBytes(int size, long seed) {
+        byte[] bytes = new byte[size]
+        new Random(seed).nextBytes(bytes)
+        return bytes
+    }
+
+    private static int serializedSize(Object object) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream()
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(buffer)
+        objectOutputStream.writeObject(object)
+        objectOutputStream.close()
+        return buffer.size()
+    }
+}
@@ -0,0 +1,18 @@
+package com.budjb.spring.distributed.cluster.hazelcast.support
+
+import com.budjb.spring.distributed.cluster.Instruction
+
+class LargeResultInstruction implements Instruction<List<String>> {
+    int size
+    long seed
+
+    static List<String> generate(int size, long seed) {
+        Random random = new Random(seed)
+        return (0..<size).collect { Long.toHexString(random.nextLong()) }
+    }
+
+    @Override
+    List<String> call() throws Exception {
+        return generate(size, seed)
+    }
+}
@@ -0,0 +1,15 @@
+package com.budjb.spring.distributed.cluster.hazelcast.support
+
+import com.budjb.spring.distributed.cluster.Instruction
+import com.hazelcast.core.HazelcastInstance
+import org.springframework.beans.factory.annotation.Autowired
+
+class MemberIdInstruction implements Instruction<String> {
+    @Autowired
+    transient HazelcastInstance hazelcastInstance
+
+    @Override
+    String call() throws Exception {
+        return hazelcastInstance.cluster.localMember.uuid
+    }
+}
@@ -5,9 +5,13 @@ import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 /**
  * A (slightly opinionated) base implementation of {@link ClusterManager}. This implementation assumes that
@@ -19,6 +23,36 @@ public abstract class AbstractClusterManager implements ClusterManager {
      */
     private final ClusterConfigurationProperties clusterConfigurationProperties;
 
+    /**
+     * Listeners notified when leadership changes.
+     */
+    private final List<LeadershipListener> leadershipListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Current leader of the cluster.
+     */
+    private volatile ClusterMember leader;
+
+    /**
+     * Whether the local cluster member is the leader of the cluster.
+     */
+    private volatile boolean isLeader;
+
+    /**
+     * Number of leadership changes so far.
+     */
+    private long leadershipGeneration = 0;
+
+    /**
+     * Whether a thread is currently notifying leadership listeners.
+     */
+    private boolean notifyingLeadershipListeners = false;
+
+    /**
+     * Lock guarding updates to the leadership state.
+     */
+    private final Object leadershipLock = new Object();
+
     /**
      * Logger.
      */
@@ -146,6 +180,125 @@ public abstract class AbstractClusterManager implements ClusterManager {
         getProperties().put(name, value);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeProperty(String name) {
+        getProperties().remove(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLeader() {
+        return isLeader;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClusterMember getLeader() {
+        return leader;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addLeadershipListener(LeadershipListener listener) {
+        leadershipListeners.add(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeLeadershipListener(LeadershipListener listener) {
+        leadershipListeners.remove(listener);
+    }
+
+    /**
+     * Updates the locally tracked leader of the cluster and notifies leadership listeners
+     * if the leader has changed.
+     *
+     * @param leader The cluster member that is now the leader, or {@code null} if no leader is known.
+     */
+    protected void updateLeader(ClusterMember leader) {
+        updateLeader(() -> leader);
+    }
+
+    /**
+     * Updates the locally tracked leader of the cluster and notifies leadership listeners if the leader has changed.
+     * <p>
+     * The supplier is called while holding the leadership lock, so implementations may use it to read a consistent
+     * view of cluster membership. Listeners are notified after the lock is released, one change at a time. If the
+     * leader changes again while listeners are being notified, the thread already notifying them delivers the newer
+     * change once it finishes, and changes that have been superseded in the meantime are skipped.
+     *
+     * @param leaderSupplier Supplier of the cluster member that is now the leader, or {@code null} if no leader is known.
+     */
+    protected void updateLeader(Supplier<ClusterMember> leaderSupplier) {
+        ClusterMember leader;
+        boolean isLeader;
+        long generation;
+
+        synchronized (leadershipLock) {
+            leader = leaderSupplier.get();
+
+            if (Objects.equals(leader, this.leader)) {
+                return;
+            }
+
+            isLeader = leader != null && leader.equals(getLocalMember());
+
+            this.leader = leader;
+            this.isLeader = isLeader;
+            generation = ++leadershipGeneration;
+
+            if (notifyingLeadershipListeners) {
+                return;
+            }
+            notifyingLeadershipListeners = true;
+        }
+
+        boolean completed = false;
+
+        try {
+            while (true) {
+                for (LeadershipListener listener : leadershipListeners) {
+                    try {
+                        listener.leadershipChanged(leader, isLeader);
+                    }
+                    catch (Exception e) {
+                        log.error("Unhandled exception encountered while notifying a leadership listener", e);
+                    }
+                }
+
+                synchronized (leadershipLock) {
+                    if (generation == leadershipGeneration) {
+                        notifyingLeadershipListeners = false;
+                        completed = true;
+                        return;
+                    }
+
+                    leader = this.leader;
+                    isLeader = this.isLeader;
+                    generation = leadershipGeneration;
+                }
+            }
+        }
+        finally {
+            if (!completed) {
+                synchronized (leadershipLock) {
+                    notifyingLeadershipListeners = false;
+                }
+            }
+        }
+    }
+
     /**
      * Returns the cluster configuration properties.
      *
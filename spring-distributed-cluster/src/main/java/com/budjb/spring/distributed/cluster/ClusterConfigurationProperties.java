@@ -9,6 +9,11 @@ public class ClusterConfigurationProperties {
      */
     private long instructionTimeout = 120000L;
 
+    /**
+     * How often, in milliseconds, the local member publishes its load for load-aware workload assignment. A value of 0 disables publishing.
+     */
+    private long memberLoadPublishInterval = 0L;
+
     public long getInstructionTimeout() {
         return instructionTimeout;
     }
@@ -16,4 +21,12 @@ public class ClusterConfigurationProperties {
     public void setInstructionTimeout(long instructionTimeout) {
         this.instructionTimeout = instructionTimeout;
     }
+
+    public long getMemberLoadPublishInterval() {
+        return memberLoadPublishInterval;
+    }
+
+    public void setMemberLoadPublishInterval(long memberLoadPublishInterval) {
+        this.memberLoadPublishInterval = memberLoadPublishInterval;
+    }
 }
@@ -18,6 +18,44 @@ public interface ClusterManager {
      */
     List<ClusterMember> getClusterMembers();
 
+    /**
+     * Returns the cluster member representing this application node.
+     *
+     * @return the cluster member representing this application node.
+     */
+    ClusterMember getLocalMember();
+
+    /**
+     * Returns whether the local cluster member is currently the leader of the cluster.
+     * <p>
+     * Leadership state is tracked locally and updated as cluster membership changes, so this check is
+     * cheap enough to be made on hot paths.
+     *
+     * @return whether the local cluster member is currently the leader of the cluster.
+     */
+    boolean isLeader();
+
+    /**
+     * Returns the cluster member that is currently the leader of the cluster.
+     *
+     * @return the cluster member that is currently the leader, or {@code null} if no leader is known.
+     */
+    ClusterMember getLeader();
+
+    /**
+     * Registers a listener that is notified when leadership of the cluster changes.
+     *
+     * @param listener Listener to register.
+     */
+    void addLeadershipListener(LeadershipListener listener);
+
+    /**
+     * Removes a previously registered leadership listener.
+     *
+     * @param listener Listener to remove.
+     */
+    void removeLeadershipListener(LeadershipListener listener);
+
     /**
      * Retrieves a distributed property.
      * <p>
@@ -73,6 +111,16 @@ public interface ClusterManager {
      */
     void setProperty(String name, Object value);
 
+    /**
+     * Removes a distributed property from all cluster members.
+     * <p>
+     * Note that just as with accessing shared state between threads, access to properties should be synchronized
+     * across all cluster members through some sort of locking mechanism.
+     *
+     * @param name Name of the property.
+     */
+    void removeProperty(String name);
+
     /**
      * Submits instructions to members of the cluster.
      *
@@ -1,5 +1,8 @@
 package com.budjb.spring.distributed.cluster;
 
+import com.budjb.spring.distributed.cluster.assignment.MemberLoadPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -9,4 +12,11 @@ public class DistributedClusterAutoConfiguration {
     ClusterConfigurationProperties clusterConfigurationProperties() {
         return new ClusterConfigurationProperties();
     }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "cluster", name = "member-load-publish-interval")
+    MemberLoadPublisher memberLoadPublisher(ClusterManager clusterManager, ClusterConfigurationProperties clusterConfigurationProperties) {
+        return new MemberLoadPublisher(clusterManager, clusterConfigurationProperties);
+    }
 }
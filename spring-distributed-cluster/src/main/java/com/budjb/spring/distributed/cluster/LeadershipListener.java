@@ -0,0 +1,19 @@
+package com.budjb.spring.distributed.cluster;
+
+/**
+ * Describes a class that is notified when leadership of the cluster moves from one member to another.
+ * <p>
+ * Listeners are invoked on the thread that detected the change, which for distributed implementations
+ * is typically an event thread owned by the clustering technology. Listeners should return quickly and
+ * hand off any long-running work to another thread.
+ */
+@FunctionalInterface
+public interface LeadershipListener {
+    /**
+     * Called when the leader of the cluster has changed.
+     *
+     * @param leader   The cluster member that is now the leader, or {@code null} if no leader is known.
+     * @param isLeader Whether the local cluster member is now the leader.
+     */
+    void leadershipChanged(ClusterMember leader, boolean isLeader);
+}
@@ -0,0 +1,24 @@
+package com.budjb.spring.distributed.cluster.assignment;
+
+import com.budjb.spring.distributed.cluster.ClusterMember;
+
+/**
+ * A {@link MemberWeigher} that weighs cluster members by their processor count, discounted by how busy they are.
+ * <p>
+ * A member's weight is its processor count divided by one plus its per-processor system load and its
+ * per-processor in-flight instruction count. An idle 8 processor member therefore receives roughly twice the
+ * work of an idle 4 processor member, and a saturated member receives roughly half of what it would if idle.
+ */
+public class LoadAwareMemberWeigher implements MemberWeigher {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getWeight(ClusterMember member, MemberLoad load) {
+        int processors = Math.max(1, load.getAvailableProcessors());
+        double utilization = Math.max(0, load.getSystemLoadAverage()) / processors;
+        double inFlight = (double) load.getInFlightInstructions() / processors;
+
+        return processors / (1 + utilization + inFlight);
+    }
+}
@@ -0,0 +1,80 @@
+package com.budjb.spring.distributed.cluster.assignment;
+
+import java.io.Serializable;
+
+/**
+ * A snapshot of the load of a cluster member, published by {@link MemberLoadPublisher} and
+ * consumed by {@link WorkloadAssigner}.
+ */
+public class MemberLoad implements Serializable {
+    /**
+     * Number of instructions the member was running when the snapshot was taken.
+     */
+    private final int inFlightInstructions;
+
+    /**
+     * Number of processors available to the member.
+     */
+    private final int availableProcessors;
+
+    /**
+     * System load average of the member, or a negative value if it is not available.
+     */
+    private final double systemLoadAverage;
+
+    /**
+     * Time, in milliseconds since the epoch, the snapshot was taken.
+     */
+    private final long timestamp;
+
+    /**
+     * Constructor.
+     *
+     * @param inFlightInstructions Number of instructions the member is running.
+     * @param availableProcessors  Number of processors available to the member.
+     * @param systemLoadAverage    System load average of the member, or a negative value if it is not available.
+     * @param timestamp            Time, in milliseconds since the epoch, the snapshot was taken.
+     */
+    public MemberLoad(int inFlightInstructions, int availableProcessors, double systemLoadAverage, long timestamp) {
+        this.inFlightInstructions = inFlightInstructions;
+        this.availableProcessors = availableProcessors;
+        this.systemLoadAverage = systemLoadAverage;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Returns the number of instructions the member was running when the snapshot was taken.
+     *
+     * @return the number of instructions the member was running when the snapshot was taken.
+     */
+    public int getInFlightInstructions() {
+        return inFlightInstructions;
+    }
+
+    /**
+     * Returns the number of processors available to the member.
+     *
+     * @return the number of processors available to the member.
+     */
+    public int getAvailableProcessors() {
+        return availableProcessors;
+    }
+
+    /**
+     * Returns the system load average of the member.
+     *
+     * @return the system load average of the member, or a negative value if it is not available.
+     */
+    public double getSystemLoadAverage() {
+        return systemLoadAverage;
+    }
+
+    /**
+     * Returns the time, in milliseconds since the epoch, the snapshot was taken.
+     *
+     * @return the time, in milliseconds since the epoch, the snapshot was taken.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
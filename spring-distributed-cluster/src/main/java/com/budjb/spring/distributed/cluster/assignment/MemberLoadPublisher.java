@@ -0,0 +1,162 @@
+package com.budjb.spring.distributed.cluster.assignment;
+
+import com.budjb.spring.distributed.cluster.ClusterConfigurationProperties;
+import com.budjb.spring.distributed.cluster.ClusterManager;
+import com.budjb.spring.distributed.cluster.ClusterMember;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the load of the local cluster member and periodically publishes it as a distributed property
+ * so that {@link WorkloadAssigner} instances on any member may weigh assignments by it.
+ * <p>
+ * Cluster manager implementations that support load tracking run instructions through {@link #execute(Callable)}
+ * when a publisher is present in the application context. The published load is removed when the publisher is
+ * destroyed; loads left behind by members that stop abruptly are ignored by {@link WorkloadAssigner} once they
+ * exceed its maximum load age.
+ */
+public class MemberLoadPublisher implements InitializingBean, DisposableBean {
+    /**
+     * Prefix of the distributed properties that member loads are published to.
+     */
+    private final static String PROPERTY_PREFIX = "member-load:";
+
+    /**
+     * Cluster manager.
+     */
+    private final ClusterManager clusterManager;
+
+    /**
+     * Cluster properties.
+     */
+    private final ClusterConfigurationProperties clusterConfigurationProperties;
+
+    /**
+     * Number of instructions currently running on the local member.
+     */
+    private final AtomicInteger inFlightInstructions = new AtomicInteger();
+
+    /**
+     * Scheduler that publishes the load.
+     */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Logger.
+     */
+    private Logger log = LoggerFactory.getLogger(MemberLoadPublisher.class);
+
+    /**
+     * Constructor.
+     *
+     * @param clusterManager                 Cluster manager.
+     * @param clusterConfigurationProperties Cluster configuration properties.
+     */
+    public MemberLoadPublisher(ClusterManager clusterManager, ClusterConfigurationProperties clusterConfigurationProperties) {
+        this.clusterManager = clusterManager;
+        this.clusterConfigurationProperties = clusterConfigurationProperties;
+    }
+
+    /**
+     * Returns the name of the distributed property a cluster member's load is published to.
+     *
+     * @param member Cluster member.
+     * @return the name of the distributed property the cluster member's load is published to.
+     */
+    public static String getPropertyName(ClusterMember member) {
+        return PROPERTY_PREFIX + member.getUrn();
+    }
+
+    /**
+     * Runs a callable, counting it as an in-flight instruction while it runs.
+     *
+     * @param callable Callable to run.
+     * @param <T>      Return type of the callable.
+     * @return The result of the callable.
+     * @throws Exception when the callable fails.
+     */
+    public <T> T execute(Callable<T> callable) throws Exception {
+        inFlightInstructions.incrementAndGet();
+        try {
+            return callable.call();
+        }
+        finally {
+            inFlightInstructions.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the current load of the local cluster member.
+     *
+     * @return the current load of the local cluster member.
+     */
+    public MemberLoad getLoad() {
+        OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+
+        return new MemberLoad(
+            inFlightInstructions.get(),
+            operatingSystem.getAvailableProcessors(),
+            operatingSystem.getSystemLoadAverage(),
+            System.currentTimeMillis()
+        );
+    }
+
+    /**
+     * Publishes the current load of the local cluster member.
+     */
+    public void publish() {
+        try {
+            clusterManager.setProperty(getPropertyName(clusterManager.getLocalMember()), getLoad());
+        }
+        catch (Exception e) {
+            log.error("Unable to publish the load of the local cluster member", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void afterPropertiesSet() {
+        long interval = clusterConfigurationProperties.getMemberLoadPublishInterval();
+
+        if (interval <= 0) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "member-load-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::publish, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+
+        try {
+            clusterManager.removeProperty(getPropertyName(clusterManager.getLocalMember()));
+        }
+        catch (Exception e) {
+            log.warn("Unable to remove the published load of the local cluster member", e);
+        }
+    }
+}
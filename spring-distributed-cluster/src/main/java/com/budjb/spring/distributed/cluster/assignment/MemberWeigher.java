@@ -0,0 +1,21 @@
+package com.budjb.spring.distributed.cluster.assignment;
+
+import com.budjb.spring.distributed.cluster.ClusterMember;
+
+/**
+ * Describes a class that determines how much work a cluster member should receive relative to
+ * other cluster members, based on the load it has published.
+ */
+@FunctionalInterface
+public interface MemberWeigher {
+    /**
+     * Returns the weight of a cluster member. Weights are relative to one another; a member with twice
+     * the weight of another receives roughly twice the work. A weight of zero or less excludes the member
+     * from assignment.
+     *
+     * @param member Cluster member.
+     * @param load   Load most recently published by the cluster member.
+     * @return the weight of the cluster member.
+     */
+    double getWeight(ClusterMember member, MemberLoad load);
+}
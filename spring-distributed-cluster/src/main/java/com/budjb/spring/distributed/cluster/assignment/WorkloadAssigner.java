@@ -0,0 +1,295 @@
+package com.budjb.spring.distributed.cluster.assignment;
+
+import com.budjb.spring.distributed.cluster.ClusterConfigurationProperties;
+import com.budjb.spring.distributed.cluster.ClusterManager;
+import com.budjb.spring.distributed.cluster.ClusterMember;
+import com.budjb.spring.distributed.cluster.Instruction;
+import org.springframework.util.Assert;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Splits a collection of work units across the members of a cluster and builds the instructions that
+ * carry them, suitable for {@link ClusterManager#submitInstructions(Map)}.
+ * <p>
+ * Work units are placed on a consistent hash ring on which each cluster member owns a number of virtual nodes.
+ * When a member joins or leaves the cluster, only the work units that hash near its virtual nodes move, and all
+ * other work units stay with the member they were assigned to before.
+ * <p>
+ * Each member's weight is determined by a {@link MemberWeigher} from the load the member publishes through
+ * {@link MemberLoadPublisher}. Weights are rounded to the nearest of {@value #WEIGHT_STEPS_PER_DOUBLING} steps per
+ * doubling, so that small fluctuations in load do not change the ring, and a member owns a fixed number of virtual
+ * nodes per unit of its rounded weight. A member's virtual nodes therefore depend only on its own weight, and a
+ * member joining or leaving the cluster does not move work units between the remaining members. Virtual nodes are
+ * added and removed from the end of a member's sequence as its weight changes, so a change in weight only moves the
+ * work units affected by it.
+ * <p>
+ * Members that have not published their load, or whose load is older than the maximum load age, are given the
+ * average weight of the members that have, or a weight of 1 if none have. Unlike published weights, this fallback
+ * depends on the other members, so while any member's load is missing, membership changes may also move some of
+ * that member's work units. By default, the maximum load age is {@value #MAX_LOAD_AGE_INTERVALS} member load publish
+ * intervals, or {@value #DEFAULT_MAX_LOAD_AGE} milliseconds if no publish interval is configured.
+ */
+public class WorkloadAssigner {
+    /**
+     * Default number of virtual nodes owned by a cluster member per unit of weight.
+     */
+    public final static int DEFAULT_VIRTUAL_NODES = 64;
+
+    /**
+     * Number of steps member weights are rounded to for each doubling of weight.
+     */
+    public final static int WEIGHT_STEPS_PER_DOUBLING = 4;
+
+    /**
+     * Number of member load publish intervals after which a published load is ignored.
+     */
+    public final static int MAX_LOAD_AGE_INTERVALS = 3;
+
+    /**
+     * Maximum age, in milliseconds, of a published member load when no publish interval is configured.
+     */
+    public final static long DEFAULT_MAX_LOAD_AGE = 30000L;
+
+    /**
+     * Cluster manager.
+     */
+    private final ClusterManager clusterManager;
+
+    /**
+     * Member weigher.
+     */
+    private final MemberWeigher memberWeigher;
+
+    /**
+     * Number of virtual nodes owned by a cluster member per unit of weight.
+     */
+    private final int virtualNodes;
+
+    /**
+     * Maximum age, in milliseconds, of a published member load before it is ignored. A value of 0 disables the limit.
+     */
+    private long maxLoadAge;
+
+    /**
+     * Constructor.
+     *
+     * @param clusterManager                 Cluster manager.
+     * @param clusterConfigurationProperties Cluster configuration properties.
+     */
+    public WorkloadAssigner(ClusterManager clusterManager, ClusterConfigurationProperties clusterConfigurationProperties) {
+        this(clusterManager, clusterConfigurationProperties, new LoadAwareMemberWeigher(), DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param clusterManager                 Cluster manager.
+     * @param clusterConfigurationProperties Cluster configuration properties.
+     * @param memberWeigher                  Member weigher.
+     * @param virtualNodes                   Number of virtual nodes owned by a cluster member per unit of weight.
+     */
+    public WorkloadAssigner(ClusterManager clusterManager, ClusterConfigurationProperties clusterConfigurationProperties, MemberWeigher memberWeigher, int virtualNodes) {
+        Assert.notNull(clusterManager, "the [clusterManager] may not be null");
+        Assert.notNull(clusterConfigurationProperties, "the [clusterConfigurationProperties] may not be null");
+        Assert.notNull(memberWeigher, "the [memberWeigher] may not be null");
+        Assert.isTrue(virtualNodes > 0, "the number of [virtualNodes] must be greater than 0");
+
+        this.clusterManager = clusterManager;
+        this.memberWeigher = memberWeigher;
+        this.virtualNodes = virtualNodes;
+
+        long publishInterval = clusterConfigurationProperties.getMemberLoadPublishInterval();
+        this.maxLoadAge = publishInterval > 0 ? publishInterval * MAX_LOAD_AGE_INTERVALS : DEFAULT_MAX_LOAD_AGE;
+    }
+
+    /**
+     * Sets the maximum age, in milliseconds, of a published member load before it is ignored.
+     * A value of 0 disables the limit.
+     *
+     * @param maxLoadAge Maximum age of a published member load.
+     */
+    public void setMaxLoadAge(long maxLoadAge) {
+        this.maxLoadAge = maxLoadAge;
+    }
+
+    /**
+     * Assigns work units to cluster members, hashing each work unit by its {@link Object#toString()} value.
+     *
+     * @param workUnits Work units to assign.
+     * @param <W>       Type of the work units.
+     * @return the work units assigned to each cluster member. Members that were assigned no work are not included.
+     */
+    public <W> Map<ClusterMember, List<W>> assign(Collection<? extends W> workUnits) {
+        return assign(workUnits, Object::toString);
+    }
+
+    /**
+     * Assigns work units to cluster members.
+     *
+     * @param workUnits   Work units to assign.
+     * @param keyFunction Function returning the key a work unit is hashed by. Keys should be stable across
+     *                    cluster members and application restarts.
+     * @param <W>         Type of the work units.
+     * @return the work units assigned to each cluster member. Members that were assigned no work are not included.
+     */
+    public <W> Map<ClusterMember, List<W>> assign(Collection<? extends W> workUnits, Function<? super W, String> keyFunction) {
+        Map<ClusterMember, List<W>> assignments = new HashMap<>();
+
+        if (workUnits.isEmpty()) {
+            return assignments;
+        }
+
+        NavigableMap<Long, ClusterMember> ring = buildRing(clusterManager.getClusterMembers());
+
+        if (ring.isEmpty()) {
+            return assignments;
+        }
+
+        for (W workUnit : workUnits) {
+            Map.Entry<Long, ClusterMember> entry = ring.ceilingEntry(hash(keyFunction.apply(workUnit)));
+
+            if (entry == null) {
+                entry = ring.firstEntry();
+            }
+
+            assignments.computeIfAbsent(entry.getValue(), member -> new ArrayList<>()).add(workUnit);
+        }
+
+        return assignments;
+    }
+
+    /**
+     * Assigns work units to cluster members and creates an instruction for each member's share of the work,
+     * hashing each work unit by its {@link Object#toString()} value.
+     *
+     * @param workUnits          Work units to assign.
+     * @param instructionFactory Function that creates the instruction for a member's share of the work.
+     * @param <W>                Type of the work units.
+     * @param <T>                The return type of the instructions.
+     * @return the instruction for each cluster member. Members that were assigned no work are not included.
+     */
+    public <W, T> Map<ClusterMember, Instruction<? extends T>> createInstructions(Collection<? extends W> workUnits, Function<? super List<W>, ? extends Instruction<? extends T>> instructionFactory) {
+        return createInstructions(workUnits, Object::toString, instructionFactory);
+    }
+
+    /**
+     * Assigns work units to cluster members and creates an instruction for each member's share of the work.
+     *
+     * @param workUnits          Work units to assign.
+     * @param keyFunction        Function returning the key a work unit is hashed by.
+     * @param instructionFactory Function that creates the instruction for a member's share of the work.
+     * @param <W>                Type of the work units.
+     * @param <T>                The return type of the instructions.
+     * @return the instruction for each cluster member. Members that were assigned no work are not included.
+     */
+    public <W, T> Map<ClusterMember, Instruction<? extends T>> createInstructions(Collection<? extends W> workUnits, Function<? super W, String> keyFunction, Function<? super List<W>, ? extends Instruction<? extends T>> instructionFactory) {
+        Map<ClusterMember, Instruction<? extends T>> instructions = new HashMap<>();
+
+        for (Map.Entry<ClusterMember, List<W>> assignment : this.<W>assign(workUnits, keyFunction).entrySet()) {
+            instructions.put(assignment.getKey(), instructionFactory.apply(assignment.getValue()));
+        }
+
+        return instructions;
+    }
+
+    /**
+     * Builds the consistent hash ring for the given cluster members. If no member has a positive weight,
+     * every member is given a weight of 1.
+     *
+     * @param members Cluster members.
+     * @return the hash ring, mapping virtual node hashes to the members that own them.
+     */
+    private NavigableMap<Long, ClusterMember> buildRing(List<ClusterMember> members) {
+        Map<ClusterMember, Double> weights = getWeights(members);
+
+        if (weights.values().stream().noneMatch(weight -> weight > 0)) {
+            weights.replaceAll((member, weight) -> 1.0);
+        }
+
+        NavigableMap<Long, ClusterMember> ring = new TreeMap<>();
+
+        for (Map.Entry<ClusterMember, Double> entry : weights.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+
+            long count = Math.max(1, Math.round(virtualNodes * roundWeight(entry.getValue())));
+            String urn = entry.getKey().getUrn();
+
+            for (long i = 0; i < count; i++) {
+                ring.put(hash(urn + "#" + i), entry.getKey());
+            }
+        }
+
+        return ring;
+    }
+
+    /**
+     * Rounds a positive weight to the nearest of {@value #WEIGHT_STEPS_PER_DOUBLING} steps per doubling.
+     *
+     * @param weight Weight to round.
+     * @return the rounded weight.
+     */
+    private static double roundWeight(double weight) {
+        double steps = Math.round(Math.log(weight) / Math.log(2) * WEIGHT_STEPS_PER_DOUBLING);
+        return Math.pow(2, steps / WEIGHT_STEPS_PER_DOUBLING);
+    }
+
+    /**
+     * Determines the weight of each cluster member from its published load.
+     *
+     * @param members Cluster members.
+     * @return the weight of each cluster member.
+     */
+    private Map<ClusterMember, Double> getWeights(List<ClusterMember> members) {
+        Map<ClusterMember, Double> weights = new LinkedHashMap<>();
+        List<ClusterMember> unweighed = new ArrayList<>();
+
+        long now = System.currentTimeMillis();
+
+        for (ClusterMember member : members) {
+            MemberLoad load = clusterManager.getProperty(MemberLoadPublisher.getPropertyName(member), MemberLoad.class);
+
+            if (load == null || (maxLoadAge > 0 && now - load.getTimestamp() > maxLoadAge)) {
+                unweighed.add(member);
+            }
+            else {
+                weights.put(member, memberWeigher.getWeight(member, load));
+            }
+        }
+
+        double fallback = weights.values().stream().mapToDouble(Double::doubleValue).average().orElse(1.0);
+
+        for (ClusterMember member : unweighed) {
+            weights.put(member, fallback);
+        }
+
+        return weights;
+    }
+
+    /**
+     * Hashes a key onto the ring using 64-bit FNV-1a followed by a MurmurHash3 finalizer, which spreads
+     * similar keys (such as the virtual node keys of a member) evenly across the ring.
+     *
+     * @param key Key to hash.
+     * @return the position of the key on the ring.
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
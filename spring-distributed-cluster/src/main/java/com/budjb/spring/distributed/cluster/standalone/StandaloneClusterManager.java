@@ -60,6 +60,7 @@ public class StandaloneClusterManager extends AbstractClusterManager implements
         super(clusterConfigurationProperties);
         this.clusterMembers = new ArrayList<>();
         this.clusterMembers.add(member);
+        updateLeader(member);
     }
 
     /**
@@ -98,6 +99,14 @@ public class StandaloneClusterManager extends AbstractClusterManager implements
         return clusterMembers;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClusterMember getLocalMember() {
+        return clusterMembers.get(0);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -55,4 +55,86 @@ class AbstractClusterManagerSpec extends Specification {
         results.containsKey(b)
         !results.containsKey(a)
     }
+
+    def 'When the local member becomes the leader, isLeader() reports true and listeners are notified'() {
+        setup:
+        LeadershipListener listener = Mock(LeadershipListener)
+        clusterManager.addLeadershipListener(listener)
+
+        when:
+        clusterManager.updateLeader(clusterManager.localMember)
+
+        then:
+        clusterManager.isLeader()
+        clusterManager.getLeader() == clusterManager.localMember
+        1 * listener.leadershipChanged(clusterManager.localMember, true)
+    }
+
+    def 'When leadership moves to another member, isLeader() reports false and listeners are notified'() {
+        setup:
+        TestClusterMember other = new TestClusterMember('other')
+        LeadershipListener listener = Mock(LeadershipListener)
+
+        clusterManager.updateLeader(clusterManager.localMember)
+        clusterManager.addLeadershipListener(listener)
+
+        when:
+        clusterManager.updateLeader(other)
+
+        then:
+        !clusterManager.isLeader()
+        clusterManager.getLeader() == other
+        1 * listener.leadershipChanged(other, false)
+    }
+
+    def 'When the leader does not change, listeners are not notified'() {
+        setup:
+        LeadershipListener listener = Mock(LeadershipListener)
+
+        clusterManager.updateLeader(clusterManager.localMember)
+        clusterManager.addLeadershipListener(listener)
+
+        when:
+        clusterManager.updateLeader(new TestClusterMember('local'))
+
+        then:
+        clusterManager.isLeader()
+        0 * listener._
+    }
+
+    def 'When leadership is cleared, isLeader() reports false and listeners are notified'() {
+        setup:
+        LeadershipListener listener = Mock(LeadershipListener)
+
+        clusterManager.updateLeader(clusterManager.localMember)
+        clusterManager.addLeadershipListener(listener)
+
+        when:
+        clusterManager.updateLeader((ClusterMember) null)
+
+        then:
+        !clusterManager.isLeader()
+        clusterManager.getLeader() == null
+        1 * listener.leadershipChanged(null, false)
+    }
+
+    def 'Listeners are notified without holding the leadership lock'() {
+        setup:
+        TestClusterMember other = new TestClusterMember('other')
+        Thread thread = null
+
+        clusterManager.addLeadershipListener({ leader, isLeader ->
+            if (isLeader) {
+                thread = Thread.start { clusterManager.updateLeader(other) }
+                thread.join(5000)
+            }
+        } as LeadershipListener)
+
+        when:
+        clusterManager.updateLeader(clusterManager.localMember)
+
+        then:
+        !thread.isAlive()
+        clusterManager.getLeader() == other
+    }
 }
@@ -47,4 +47,12 @@ class ClusterMemberSpec extends Specification {
         !a.equals(b)
         !b.equals(a)
     }
+
+    def 'A cluster member is not equal to null'() {
+        setup:
+        ClusterMember clusterMember = new TestClusterMember('1234')
+
+        expect:
+        !clusterMember.equals(null)
+    }
 }
@@ -0,0 +1,167 @@
+package com.budjb.spring.distributed.cluster.assignment
+
+import com.budjb.spring.distributed.cluster.ClusterConfigurationProperties
+import com.budjb.spring.distributed.cluster.ClusterMember
+import com.budjb.spring.distributed.cluster.Instruction
+import com.budjb.spring.distributed.cluster.support.TestClusterManager
+import com.budjb.spring.distributed.cluster.support.TestClusterMember
+import com.budjb.spring.distributed.cluster.support.TestInstruction
+import spock.lang.Specification
+
+class WorkloadAssignerSpec extends Specification {
+    ClusterConfigurationProperties clusterProperties
+    TestClusterManager clusterManager
+    WorkloadAssigner workloadAssigner
+
+    TestClusterMember a = new TestClusterMember('a')
+    TestClusterMember b = new TestClusterMember('b')
+    TestClusterMember c = new TestClusterMember('c')
+
+    List<String> workUnits = (1..1000).collect { "unit-${it}".toString() }
+
+    def setup() {
+        clusterProperties = new ClusterConfigurationProperties()
+        clusterManager = new TestClusterManager(clusterProperties)
+        clusterManager.setClusterMembers([a, b, c])
+        workloadAssigner = new WorkloadAssigner(clusterManager, clusterProperties)
+    }
+
+    def 'When work units are assigned, every work unit is assigned to exactly one member'() {
+        when:
+        Map<ClusterMember, List<String>> assignments = workloadAssigner.assign(workUnits)
+
+        then:
+        assignments.keySet() == [a, b, c] as Set
+        assignments.values().flatten().sort() == workUnits.sort()
+    }
+
+    def 'When no members have published their load, work units are spread roughly evenly'() {
+        when:
+        Map<ClusterMember, List<String>> assignments = workloadAssigner.assign(workUnits)
+
+        then:
+        assignments.values().every { it.size() > 250 && it.size() < 420 }
+    }
+
+    def 'When a member leaves the cluster, only its work units are reassigned'() {
+        setup:
+        Map<ClusterMember, List<String>> before = workloadAssigner.assign(workUnits)
+        clusterManager.setClusterMembers([a, b])
+
+        when:
+        Map<ClusterMember, List<String>> after = workloadAssigner.assign(workUnits)
+
+        then:
+        after.get(a).containsAll(before.get(a))
+        after.get(b).containsAll(before.get(b))
+        after.get(a).size() + after.get(b).size() == workUnits.size()
+    }
+
+    def 'When members with unequal published loads lose a member, the remaining members keep their work units'() {
+        setup:
+        long now = System.currentTimeMillis()
+        clusterManager.setProperty(MemberLoadPublisher.getPropertyName(a), new MemberLoad(0, 2, 0.5, now))
+        clusterManager.setProperty(MemberLoadPublisher.getPropertyName(b), new MemberLoad(3, 4, 1, now))
+        clusterManager.setProperty(MemberLoadPublisher.getPropertyName(c), new MemberLoad(0, 16, 2, now))
+        Map<ClusterMember, List<String>> before = workloadAssigner.assign(workUnits)
+        clusterManager.setClusterMembers([a, b])
+
+        when:
+        Map<ClusterMember, List<String>> after = workloadAssigner.assign(workUnits)
+
+        then:
+        before.get(c).size() > before.get(a).size() + before.get(b).size()
+        after.get(a).containsAll(before.get(a))
+        after.get(b).containsAll(before.get(b))
+        after.get(a).size() + after.get(b).size() == workUnits.size()
+    }
+
+    def 'When a published load changes slightly, no work units move'() {
+        setup:
+        long now = System.currentTimeMillis()
+        [a, b, c].each { clusterManager.setProperty(MemberLoadPublisher.getPropertyName(it), new MemberLoad(0, 8, 0.1, now)) }
+        Map<ClusterMember, List<String>> before = workloadAssigner.assign(workUnits)
+        clusterManager.setProperty(MemberLoadPublisher.getPropertyName(b), new MemberLoad(0, 8, 0.2, now))
+
+        when:
+        Map<ClusterMember, List<String>> after = workloadAssigner.assign(workUnits)
+
+        then:
+        after == before
+    }
+
+    def 'When a member publishes a heavier load, it receives fewer work units'() {
+        setup:
+        long now = System.currentTimeMillis()
+        clusterManager.setProperty(MemberLoadPublisher.getPropertyName(a), new MemberLoad(0, 4, 0, now))
+        clusterManager.setProperty(MemberLoadPublisher.getPropertyName(b), new MemberLoad(0, 4, 0, now))
+        clusterManager.setProperty(MemberLoadPublisher.getPropertyName(c), new MemberLoad(12, 4, 8, now))
+
+        when:
+        Map<ClusterMember, List<String>> assignments = workloadAssigner.assign(workUnits)
+
+        then:
+        assignments.get(c).size() < assignments.get(a).size() / 2
+        assignments.get(c).size() < assignments.get(b).size() / 2
+    }
+
+    def 'When a published load is older than the maximum load age, it is ignored'() {
+        setup:
+        clusterProperties.memberLoadPublishInterval = 1000
+        workloadAssigner = new WorkloadAssigner(clusterManager, clusterProperties)
+
+        long stale = System.currentTimeMillis() - 1000 * WorkloadAssigner.MAX_LOAD_AGE_INTERVALS - 1
+        clusterManager.setProperty(MemberLoadPublisher.getPropertyName(c), new MemberLoad(1000, 1, 100, stale))
+
+        when:
+        Map<ClusterMember, List<String>> assignments = workloadAssigner.assign(workUnits)
+
+        then:
+        assignments.values().every { it.size() > 250 && it.size() < 420 }
+    }
+
+    def 'When a member load publisher is destroyed, its published load is removed'() {
+        setup:
+        MemberLoadPublisher memberLoadPublisher = new MemberLoadPublisher(clusterManager, clusterProperties)
+
+        when:
+        memberLoadPublisher.publish()
+
+        then:
+        clusterManager.getProperty(MemberLoadPublisher.getPropertyName(clusterManager.localMember), MemberLoad) != null
+
+        when:
+        memberLoadPublisher.destroy()
+
+        then:
+        clusterManager.getProperty(MemberLoadPublisher.getPropertyName(clusterManager.localMember), MemberLoad) == null
+    }
+
+    def 'When a member has a weight of zero, it receives no work units'() {
+        setup:
+        workloadAssigner = new WorkloadAssigner(clusterManager, clusterProperties, { member, load -> member == c ? 0d : 1d } as MemberWeigher, WorkloadAssigner.DEFAULT_VIRTUAL_NODES)
+        [a, b, c].each { clusterManager.setProperty(MemberLoadPublisher.getPropertyName(it), new MemberLoad(0, 1, 0, System.currentTimeMillis())) }
+
+        when:
+        Map<ClusterMember, List<String>> assignments = workloadAssigner.assign(workUnits)
+
+        then:
+        assignments.keySet() == [a, b] as Set
+    }
+
+    def 'When instructions are created, the factory is called once per member with its assigned work units'() {
+        setup:
+        Map<ClusterMember, List<String>> assignments = workloadAssigner.assign(workUnits)
+        List<List<String>> shares = []
+
+        when:
+        Map<ClusterMember, Instruction<Void>> instructions = workloadAssigner.createInstructions(workUnits) { List<String> share ->
+            shares.add(share)
+            return new TestInstruction()
+        }
+
+        then:
+        instructions.keySet() == [a, b, c] as Set
+        shares as Set == assignments.values() as Set
+    }
+}
@@ -0,0 +1,29 @@
+package com.budjb.spring.distributed.cluster.standalone
+
+import com.budjb.spring.distributed.cluster.ClusterConfigurationProperties
+import spock.lang.Specification
+
+class StandaloneClusterManagerSpec extends Specification {
+    def 'A standalone cluster manager is the leader of its own cluster'() {
+        setup:
+        StandaloneClusterMember member = new StandaloneClusterMember('local')
+
+        when:
+        StandaloneClusterManager clusterManager = new StandaloneClusterManager(new ClusterConfigurationProperties(), member)
+
+        then:
+        clusterManager.isLeader()
+        clusterManager.getLeader() == member
+        clusterManager.getLocalMember() == member
+        clusterManager.getClusterMembers() == [member]
+    }
+
+    def 'A standalone cluster manager created with the default member is the leader'() {
+        when:
+        StandaloneClusterManager clusterManager = new StandaloneClusterManager(new ClusterConfigurationProperties())
+
+        then:
+        clusterManager.isLeader()
+        clusterManager.getLeader() == clusterManager.getLocalMember()
+    }
+}
@@ -10,6 +10,7 @@ import java.util.concurrent.Future
 
 class TestClusterManager extends AbstractClusterManager {
     List<TestClusterMember> clusterMembers = []
+    TestClusterMember localMember = new TestClusterMember('local')
     Map<ClusterMember, List<Instruction<?>>> instructions = [:]
     Map<String, Object> properties = [:]
 